@@ -3,12 +3,18 @@ package com.reviewduck;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.reviewduck.config.http.OutboundHttpConfig;
 
 @SpringBootApplication
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableScheduling
 public class ReviewduckApplication {
 
     public static void main(String[] args) {
+        OutboundHttpConfig.applyDefaultKeepAliveTimeout();
         SpringApplication.run(ReviewduckApplication.class, args);
     }
 }
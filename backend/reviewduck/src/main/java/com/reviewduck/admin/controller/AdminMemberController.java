@@ -14,7 +14,6 @@ import com.reviewduck.admin.dto.response.AdminMemberResponse;
 import com.reviewduck.admin.dto.response.AdminMembersResponse;
 import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -32,9 +31,6 @@ public class AdminMemberController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public AdminMembersResponse findAllMembers(@AdminAuthenticationPrincipal AdminMemberDto member) {
-
-        Logging.info("api/admin/members", "GET", "");
-
         return adminMemberService.findAllMembers();
     }
 
@@ -43,9 +39,6 @@ public class AdminMemberController {
     @ResponseStatus(HttpStatus.OK)
     public AdminMemberResponse findMember(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long memberId) {
-
-        Logging.info("api/admin/members" + memberId, "GET", "");
-
         return adminMemberService.findMember(memberId);
     }
 
@@ -54,9 +47,6 @@ public class AdminMemberController {
     @ResponseStatus(HttpStatus.OK)
     @Transactional
     public void deleteMember(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long memberId) {
-
-        Logging.info("api/admin/members/" + memberId, "DELETE", "");
-
         adminMemberService.deleteMember(memberId);
     }
 }
@@ -1,7 +1,5 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +15,6 @@ import com.reviewduck.admin.dto.response.AdminReviewResponse;
 import com.reviewduck.admin.dto.response.AdminReviewsResponse;
 import com.reviewduck.admin.service.AdminReviewService;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -35,9 +32,6 @@ public class AdminReviewController {
     @GetMapping("/reviews")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewsResponse findAllReviews(@AdminAuthenticationPrincipal AdminMemberDto member) {
-
-        Logging.info("api/admin/reviews", "GET", "");
-
         return adminReviewService.findAllReviews();
     }
 
@@ -46,9 +40,6 @@ public class AdminReviewController {
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewResponse findReview(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long reviewId) {
-
-        Logging.info("api/admin/reviews/" + reviewId, "GET", "");
-
         return adminReviewService.findReview(reviewId);
     }
 
@@ -57,9 +48,6 @@ public class AdminReviewController {
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewsResponse findMemberReviews(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
-
-        info("/api/reviews?memberId=" + memberId, "GET", "");
-
         return adminReviewService.findMemberReviews(memberId);
     }
 
@@ -68,9 +56,6 @@ public class AdminReviewController {
     @DeleteMapping("/reviews/{reviewId}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteReview(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long reviewId) {
-
-        Logging.info("api/admin/reviews/" + reviewId, "DELETE", "");
-
         adminReviewService.deleteReview(reviewId);
     }
 }
@@ -1,7 +1,5 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +15,6 @@ import com.reviewduck.admin.dto.response.AdminReviewFormResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormsResponse;
 import com.reviewduck.admin.service.AdminReviewFormService;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -35,9 +32,6 @@ public class AdminReviewFormController {
     @GetMapping("/review-forms")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormsResponse findAllReviewForms(@AdminAuthenticationPrincipal AdminMemberDto member) {
-
-        Logging.info("api/admin/review-forms", "GET", "");
-
         return adminReviewFormService.findAllReviewForms();
     }
 
@@ -46,9 +40,6 @@ public class AdminReviewFormController {
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormsResponse findMemberReviewForms(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
-
-        info("/api/review-forms?memberId=" + memberId, "GET", "");
-
         return adminReviewFormService.findMemberReviewForms(memberId);
     }
 
@@ -57,9 +48,6 @@ public class AdminReviewFormController {
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormResponse findReviewForm(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable String reviewFormCode) {
-
-        Logging.info("api/admin/review-forms/" + reviewFormCode, "GET", "");
-
         return adminReviewFormService.findReviewForm(reviewFormCode);
     }
 
@@ -68,9 +56,6 @@ public class AdminReviewFormController {
     @DeleteMapping("/review-forms/{reviewFormId}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteReviewForm(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long reviewFormId) {
-
-        Logging.info("api/admin/review-forms/" + reviewFormId, "DELETE", "");
-
         adminReviewFormService.deleteReviewForm(reviewFormId);
     }
 }
@@ -1,7 +1,5 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -34,9 +32,6 @@ public class AdminTemplateController {
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public AdminTemplatesResponse findAllTemplates(@AdminAuthenticationPrincipal AdminMemberDto member) {
-
-        info("api/admin/templates", "GET", "");
-
         return adminTemplateService.findAllTemplates();
     }
 
@@ -45,9 +40,6 @@ public class AdminTemplateController {
     @ResponseStatus(HttpStatus.OK)
     public AdminTemplateResponse findTemplate(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long templateId) {
-
-        info("api/admin/templates/" + templateId, "GET", "");
-
         return adminTemplateService.findTemplate(templateId);
     }
 
@@ -56,9 +48,6 @@ public class AdminTemplateController {
     @ResponseStatus(HttpStatus.OK)
     public AdminTemplatesResponse findMemberTemplates(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
-
-        info("/api/templates?memberId=" + memberId, "GET", "");
-
         return adminTemplateService.findMemberTemplates(memberId);
     }
 
@@ -67,9 +56,6 @@ public class AdminTemplateController {
     @DeleteMapping("/{templateId}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteTemplate(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long templateId) {
-
-        info("api/admin/templates/" + templateId, "DELETE", "");
-
         adminTemplateService.deleteTemplate(templateId);
     }
 }
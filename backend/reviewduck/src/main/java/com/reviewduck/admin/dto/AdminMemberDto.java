@@ -1,7 +1,8 @@
 package com.reviewduck.admin.dto;
 
+import java.io.Serializable;
+
 import com.reviewduck.member.domain.Member;
-import com.reviewduck.member.dto.MemberDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -9,7 +10,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class AdminMemberDto {
+public class AdminMemberDto implements Serializable {
 
     private static final AdminMemberDto MEMBER_NOT_LOGIN = new AdminMemberDto(false, -1, "not-login");
 
@@ -1,5 +1,6 @@
 package com.reviewduck.admin.dto.response;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 import com.reviewduck.member.domain.Member;
@@ -10,7 +11,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class AdminMemberResponse {
+public class AdminMemberResponse implements Serializable {
 
     private long id;
     private String socialId;
@@ -4,12 +4,15 @@ import java.util.List;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.admin.dto.AdminMemberDto;
 import com.reviewduck.admin.dto.response.AdminMemberResponse;
 import com.reviewduck.admin.dto.response.AdminMembersResponse;
 import com.reviewduck.admin.repository.AdminMemberRepository;
+import com.reviewduck.auth.service.RefreshTokenService;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 
@@ -21,23 +24,37 @@ import lombok.AllArgsConstructor;
 public class AdminMemberService {
 
     private final AdminMemberRepository adminMemberRepository;
+    private final RefreshTokenService refreshTokenService;
 
     public AdminMembersResponse findAllMembers() {
         List<Member> members = adminMemberRepository.findAll();
         return AdminMembersResponse.from(members);
     }
 
-    @Cacheable(value = "memberCacheStore", key = "#memberId")
+    @Cacheable(value = "memberCacheStore", keyGenerator = "adminMemberKeyGenerator")
     public AdminMemberResponse findMember(long memberId) {
         Member foundMember = findMemberById(memberId);
         return AdminMemberResponse.from(foundMember);
     }
 
     @Transactional
-    @CacheEvict(value = "memberCacheStore", allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "memberCacheStore", allEntries = true),
+        @CacheEvict(value = "memberPrincipalCacheStore", keyGenerator = "memberPrincipalKeyGenerator"),
+        @CacheEvict(value = "adminPrincipalCacheStore", keyGenerator = "adminPrincipalKeyGenerator")
+    })
     public void deleteMember(Long memberId) {
         Member targetMember = findMemberById(memberId);
         targetMember.deleteAllInfo();
+        refreshTokenService.revokeAll(memberId);
+    }
+
+    /*
+        어드민 권한은 DB 에서 직접 바뀔 수 있으므로 짧은 기간만 캐싱한다.
+     */
+    @Cacheable(value = "adminPrincipalCacheStore", keyGenerator = "adminPrincipalKeyGenerator", sync = true)
+    public AdminMemberDto findPrincipal(long memberId) {
+        return AdminMemberDto.from(findMemberById(memberId));
     }
 
     public Member findMemberById(long memberId) {
@@ -10,8 +10,14 @@ import com.reviewduck.admin.dto.response.AdminTemplateResponse;
 import com.reviewduck.admin.dto.response.AdminTemplatesResponse;
 import com.reviewduck.admin.repository.AdminTemplateRepository;
 import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.config.cache.CacheInvalidationBus;
+import com.reviewduck.config.cache.DomainEvent;
+import com.reviewduck.config.cache.DomainEventType;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.service.TemplateLeaderboardService;
+import com.reviewduck.template.service.TemplateListCache;
+import com.reviewduck.template.service.TemplateSearchService;
 
 import lombok.AllArgsConstructor;
 
@@ -22,6 +28,10 @@ public class AdminTemplateService {
 
     private final AdminMemberService adminMemberService;
     private final AdminTemplateRepository adminTemplateRepository;
+    private final TemplateListCache templateListCache;
+    private final TemplateSearchService templateSearchService;
+    private final TemplateLeaderboardService templateLeaderboardService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public AdminTemplatesResponse findAllTemplates() {
         List<Template> templates = adminTemplateRepository.findAll();;
@@ -40,11 +50,15 @@ public class AdminTemplateService {
         return AdminTemplatesResponse.from(templates);
     }
 
-    @CacheEvict(value = "templateCacheStore", key = "#templateId")
+    @CacheEvict(value = "templateCacheStore", keyGenerator = "templateKeyGenerator")
     @Transactional
     public void deleteTemplate(long templateId) {
         Template template = findById(templateId);
         adminTemplateRepository.deleteById(template.getId());
+        templateListCache.onDeleted(templateId);
+        templateSearchService.onDeleted(templateId);
+        templateLeaderboardService.onDeleted(templateId);
+        cacheInvalidationBus.publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_DELETED, templateId));
     }
 
     private Template findById(long templateId) {
@@ -0,0 +1,28 @@
+package com.reviewduck.auth.config;
+
+import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.reviewduck.auth.repository.CachedRefreshTokenFamilyStore;
+import com.reviewduck.auth.repository.JdbcRefreshTokenFamilyStore;
+import com.reviewduck.auth.repository.RefreshTokenFamilyStore;
+
+@Configuration
+public class RefreshTokenConfig {
+
+    @Bean
+    public RefreshTokenFamilyStore refreshTokenFamilyStore(@Qualifier(SOURCE) DataSource sourceDataSource,
+        @Value("${security.jwt.refresh-token.family-cache-size:10000}") long cacheSize,
+        @Value("${security.jwt.refresh-token.family-cache-expire-millis:600000}") long cacheExpireMillis) {
+        return new CachedRefreshTokenFamilyStore(new JdbcRefreshTokenFamilyStore(sourceDataSource), cacheSize,
+            Duration.ofMillis(cacheExpireMillis));
+    }
+}
@@ -12,10 +12,11 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import com.reviewduck.admin.dto.AdminMemberDto;
 import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.support.AccessTokenAttribute;
+import com.reviewduck.auth.support.AccessTokenClaims;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.auth.support.AuthorizationExtractor;
 import com.reviewduck.auth.support.JwtTokenProvider;
-import com.reviewduck.member.domain.Member;
+import com.reviewduck.config.datasource.DataSourceRoutingContext;
 
 import lombok.AllArgsConstructor;
 
@@ -36,15 +37,11 @@ public class AdminAuthenticationPrincipalArgumentResolver implements HandlerMeth
 
         HttpServletRequest request = (HttpServletRequest)webRequest.getNativeRequest();
 
-        String token = extractToken(request);
-        Member member = resolveMemberFromToken(token);
-
-        return createAdmin(member);
-    }
-
-    private String extractToken(HttpServletRequest request) {
         validateAuthorization(request);
-        return AuthorizationExtractor.extract(request);
+        AdminMemberDto member = resolveMemberFromToken(request);
+        validateAdmin(member);
+
+        return member;
     }
 
     private void validateAuthorization(HttpServletRequest request) {
@@ -53,18 +50,12 @@ public class AdminAuthenticationPrincipalArgumentResolver implements HandlerMeth
         }
     }
 
-    private Member resolveMemberFromToken(String token) {
-        jwtTokenProvider.validateAccessToken(token);
-
-        long memberId = Long.parseLong(jwtTokenProvider.getAccessTokenPayload(token));
-        return adminMemberService.findMemberById(memberId);
-    }
-
-    private AdminMemberDto createAdmin(Member member) {
-        AdminMemberDto memberDto = AdminMemberDto.from(member);
+    private AdminMemberDto resolveMemberFromToken(HttpServletRequest request) {
+        AccessTokenClaims claims = AccessTokenAttribute.resolve(request, jwtTokenProvider);
 
-        validateAdmin(memberDto);
-        return memberDto;
+        long memberId = Long.parseLong(claims.getSubject());
+        DataSourceRoutingContext.setMemberId(memberId);
+        return adminMemberService.findPrincipal(memberId);
     }
 
     private void validateAdmin(AdminMemberDto member) {
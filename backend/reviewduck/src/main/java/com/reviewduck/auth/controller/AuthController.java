@@ -1,13 +1,15 @@
 package com.reviewduck.auth.controller;
 
-import static com.reviewduck.common.util.Logging.*;
+import java.util.concurrent.CompletableFuture;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -36,17 +38,15 @@ public class AuthController {
 
     @Operation(summary = "로그인을 시도한다.")
     @PostMapping("/login")
-    @ResponseStatus(HttpStatus.OK)
-    public TokenResponse login(@RequestBody @Valid LoginRequest request, HttpServletResponse response) {
-
-        info("/api/login", "POST", request.toString());
-
-        TokensDto tokensDto = authService.createTokens(request);
-
-        ResponseCookie cookie = createRefreshTokenCookie(tokensDto.getRefreshToken(), SEVEN_DAYS);
-        response.setHeader("Set-Cookie", cookie.toString());
-
-        return new TokenResponse(tokensDto.getAccessToken());
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody @Valid LoginRequest request) {
+        return authService.createTokens(request)
+            .thenApply(tokensDto -> {
+                ResponseCookie cookie = createRefreshTokenCookie(tokensDto.getRefreshToken(), SEVEN_DAYS);
+
+                return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                    .body(new TokenResponse(tokensDto.getAccessToken()));
+            });
     }
 
     @Operation(summary = "리프레시 토큰을 사용한 로그인 연장을 시도한다.")
@@ -54,9 +54,6 @@ public class AuthController {
     @ResponseStatus(HttpStatus.OK)
     public TokenResponse refresh(@CookieValue(value = "refreshToken", required = false) Cookie cookie,
         HttpServletResponse response) {
-
-        info("/api/login/refresh", "POST", "");
-
         validateCookie(cookie);
 
         String refreshToken = cookie.getValue();
@@ -72,9 +69,6 @@ public class AuthController {
     @PostMapping("/logout")
     @ResponseStatus(HttpStatus.OK)
     public void logout(HttpServletResponse response) {
-
-        info("/api/logout", "POST", "");
-
         ResponseCookie cookie = createRefreshTokenCookie("", 0);
 
         response.setHeader("Set-Cookie", cookie.toString());
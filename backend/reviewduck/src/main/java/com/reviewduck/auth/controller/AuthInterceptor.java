@@ -1,14 +1,12 @@
 package com.reviewduck.auth.controller;
 
-import java.util.Arrays;
-
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import com.reviewduck.auth.support.AuthorizationExtractor;
+import com.reviewduck.auth.support.AccessTokenAttribute;
 import com.reviewduck.auth.support.JwtTokenProvider;
 
 import lombok.AllArgsConstructor;
@@ -16,6 +14,8 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
+    private static final URIRouteTable PUBLIC_ROUTES = URIRouteTable.compile(URIPattern.values());
+
     private final JwtTokenProvider jwtTokenProvider;
 
     @Override
@@ -38,15 +38,10 @@ public class AuthInterceptor implements HandlerInterceptor {
     }
 
     private boolean isAuthenticationNotRequired(HttpServletRequest request) {
-
-        return Arrays.stream(URIPattern.values())
-            .anyMatch(pattern -> pattern.match(request, "member"))
-            && request.getMethod().equals(HttpMethod.GET.toString());
-
+        return PUBLIC_ROUTES.matches(request, "member");
     }
 
     public void validateToken(HttpServletRequest request) {
-        String token = AuthorizationExtractor.extract(request);
-        jwtTokenProvider.validateAccessToken(token);
+        AccessTokenAttribute.resolve(request, jwtTokenProvider);
     }
 }
@@ -9,10 +9,11 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import com.reviewduck.auth.support.AccessTokenAttribute;
+import com.reviewduck.auth.support.AccessTokenClaims;
 import com.reviewduck.auth.support.AuthenticationPrincipal;
-import com.reviewduck.auth.support.AuthorizationExtractor;
 import com.reviewduck.auth.support.JwtTokenProvider;
-import com.reviewduck.member.domain.Member;
+import com.reviewduck.config.datasource.DataSourceRoutingContext;
 import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.member.service.MemberService;
 
@@ -44,20 +45,18 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
             return MemberDto.getMemberNotLogin();
         }
 
-        String token = AuthorizationExtractor.extract(request);
-        Member member = resolveMemberFromToken(token);
-
-        return MemberDto.from(member);
+        return resolveMemberFromToken(request);
     }
 
     private boolean isUnauthorized(HttpServletRequest request) {
         return request.getHeader(HttpHeaders.AUTHORIZATION) == null;
     }
 
-    private Member resolveMemberFromToken(String token) {
-        jwtTokenProvider.validateAccessToken(token);
+    private MemberDto resolveMemberFromToken(HttpServletRequest request) {
+        AccessTokenClaims claims = AccessTokenAttribute.resolve(request, jwtTokenProvider);
 
-        long memberId = Long.parseLong(jwtTokenProvider.getAccessTokenPayload(token));
-        return memberService.findById(memberId);
+        long memberId = Long.parseLong(claims.getSubject());
+        DataSourceRoutingContext.setMemberId(memberId);
+        return memberService.findPrincipal(memberId);
     }
 }
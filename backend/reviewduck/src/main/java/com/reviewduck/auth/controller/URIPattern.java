@@ -2,33 +2,33 @@ package com.reviewduck.auth.controller;
 
 import java.util.Map;
 import java.util.function.BiFunction;
-import java.util.regex.Pattern;
 
-import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/*
+    인증 없이 접근할 수 있는 요청 목록
+    경로는 '/' 로 나눈 세그먼트마다 그대로 비교하고, {number} 는 숫자, {code} 는 숫자와 대문자로만 된 세그먼트와 맞춘다.
+    * 로 끝나는 세그먼트는 그 앞부분으로 시작하는 모든 경로와 맞는다.
+ */
 @Getter
 @AllArgsConstructor
 public enum URIPattern {
 
-    TemplateFindRequestPattern(Pattern.compile("/api/templates.*"), (params, paramName) -> true),
+    TemplateFindRequestPattern(HttpMethod.GET, "/api/templates*", (params, paramName) -> true),
 
-    MemberReviewFormFindRequestPattern(Pattern.compile("/api/review-forms"), Map::containsKey),
+    MemberReviewFormFindRequestPattern(HttpMethod.GET, "/api/review-forms", Map::containsKey),
 
-    MemberReviewFindRequestPattern(Pattern.compile("/api/reviews"),
+    MemberReviewFindRequestPattern(HttpMethod.GET, "/api/reviews",
         (params, paramName) -> params.containsKey(paramName) || params.isEmpty()),
 
-    MemberFindRequestPattern(Pattern.compile("/api/members/[0-9]+"), (params, paramName) -> true),
+    MemberFindRequestPattern(HttpMethod.GET, "/api/members/{number}", (params, paramName) -> true),
 
-    ReviewFormFindRequestPattern(Pattern.compile("/api/review-forms/[0-9A-Z]+"), (params, paramName) -> true);
+    ReviewFormFindRequestPattern(HttpMethod.GET, "/api/review-forms/{code}", (params, paramName) -> true);
 
-    private final Pattern pattern;
+    private final HttpMethod method;
+    private final String path;
     private final BiFunction<Map<String, String[]>, String, Boolean> containsParam;
-
-    public boolean match(HttpServletRequest request, String paramName) {
-        return pattern.matcher(request.getRequestURI()).matches()
-            && containsParam.apply(request.getParameterMap(), paramName);
-    }
 }
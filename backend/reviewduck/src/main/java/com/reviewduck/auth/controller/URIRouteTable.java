@@ -0,0 +1,150 @@
+package com.reviewduck.auth.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import javax.servlet.http.HttpServletRequest;
+
+/*
+    URIPattern 을 HTTP 메서드별 경로 세그먼트 트라이로 한 번만 만들어 둔다.
+    요청 URI 를 잘라 새 문자열을 만들지 않고 세그먼트 경계만 옮겨 가며 비교하므로 요청마다 정규식이나 스트림을 쓰지 않는다.
+    파라미터 조건은 경로가 맞은 경우에만 확인한다.
+ */
+public class URIRouteTable {
+
+    private static final char SEPARATOR = '/';
+
+    private final Map<String, Node> roots;
+
+    private URIRouteTable(Map<String, Node> roots) {
+        this.roots = roots;
+    }
+
+    public static URIRouteTable compile(URIPattern... patterns) {
+        Map<String, Node> roots = new HashMap<>();
+        for (URIPattern pattern : patterns) {
+            Node node = roots.computeIfAbsent(pattern.getMethod().name(), ignored -> new Node(""));
+            for (String segment : pattern.getPath().substring(1).split(String.valueOf(SEPARATOR), -1)) {
+                node = node.findOrCreateChild(segment);
+            }
+            node.conditions.add(pattern.getContainsParam());
+        }
+        return new URIRouteTable(roots);
+    }
+
+    public boolean matches(HttpServletRequest request, String paramName) {
+        Node root = roots.get(request.getMethod());
+        String uri = request.getRequestURI();
+        if (root == null || uri == null || uri.isEmpty() || uri.charAt(0) != SEPARATOR) {
+            return false;
+        }
+        return root.matchesFrom(uri, 1, request, paramName);
+    }
+
+    private enum SegmentType {
+
+        LITERAL,
+        PREFIX,
+        NUMBER,
+        CODE;
+
+        static SegmentType of(String segment) {
+            if (segment.equals("{number}")) {
+                return NUMBER;
+            }
+            if (segment.equals("{code}")) {
+                return CODE;
+            }
+            if (segment.endsWith("*")) {
+                return PREFIX;
+            }
+            return LITERAL;
+        }
+    }
+
+    private static class Node {
+
+        private final String segment;
+        private final SegmentType type;
+        private final String literal;
+        private final List<Node> children = new ArrayList<>();
+        private final List<BiFunction<Map<String, String[]>, String, Boolean>> conditions = new ArrayList<>();
+
+        Node(String segment) {
+            this.segment = segment;
+            this.type = SegmentType.of(segment);
+            this.literal = type == SegmentType.PREFIX ? segment.substring(0, segment.length() - 1) : segment;
+        }
+
+        Node findOrCreateChild(String segment) {
+            if (type == SegmentType.PREFIX) {
+                throw new IllegalArgumentException("* 로 끝나는 세그먼트 뒤에는 경로를 둘 수 없습니다.");
+            }
+            for (Node child : children) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            Node child = new Node(segment);
+            children.add(child);
+            return child;
+        }
+
+        /*
+            start 는 세그먼트가 시작하는 위치다. 여러 자식이 같은 세그먼트와 맞을 수 있으므로 맞는 자식을 차례로 따라간다.
+         */
+        boolean matchesFrom(String uri, int start, HttpServletRequest request, String paramName) {
+            int end = uri.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = uri.length();
+            }
+
+            for (int index = 0; index < children.size(); index++) {
+                Node child = children.get(index);
+                if (child.type == SegmentType.PREFIX) {
+                    if (uri.startsWith(child.literal, start) && child.accepts(request, paramName)) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (!child.matchesSegment(uri, start, end)) {
+                    continue;
+                }
+                if (end == uri.length() ? child.accepts(request, paramName)
+                    : child.matchesFrom(uri, end + 1, request, paramName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesSegment(String uri, int start, int end) {
+            if (type == SegmentType.LITERAL) {
+                return end - start == literal.length() && uri.startsWith(literal, start);
+            }
+            if (start == end) {
+                return false;
+            }
+            for (int index = start; index < end; index++) {
+                char character = uri.charAt(index);
+                boolean digit = '0' <= character && character <= '9';
+                if (!digit && !(type == SegmentType.CODE && 'A' <= character && character <= 'Z')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean accepts(HttpServletRequest request, String paramName) {
+            for (int index = 0; index < conditions.size(); index++) {
+                if (conditions.get(index).apply(request.getParameterMap(), paramName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reviewduck.auth.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 번의 로그인에서 이어지는 refresh token 의 계열
+ * 재발급할 때마다 현재 token id 를 바꾸므로, 이전 token 이 다시 쓰이면 탈취된 것으로 보고 계열 전체를 폐기한다.
+ * 여러 탭이 같은 token 으로 동시에 재발급할 수 있으므로 바로 이전 token 과 바뀐 시각을 함께 둔다.
+ */
+@AllArgsConstructor
+@Getter
+public class RefreshTokenFamily {
+
+    private final String familyId;
+    private final long memberId;
+    private final String tokenId;
+    private final String previousTokenId;
+    private final long rotatedAtMillis;
+    private final boolean revoked;
+    private final long expiresAtMillis;
+
+    public static RefreshTokenFamily start(String familyId, long memberId, String tokenId, long expiresAtMillis) {
+        return new RefreshTokenFamily(familyId, memberId, tokenId, null, 0, false, expiresAtMillis);
+    }
+
+    public RefreshTokenFamily rotate(String nextTokenId, long rotatedAtMillis, long nextExpiresAtMillis) {
+        return new RefreshTokenFamily(familyId, memberId, nextTokenId, tokenId, rotatedAtMillis, revoked,
+            nextExpiresAtMillis);
+    }
+
+    public RefreshTokenFamily revoke() {
+        return new RefreshTokenFamily(familyId, memberId, tokenId, previousTokenId, rotatedAtMillis, true,
+            expiresAtMillis);
+    }
+
+    public boolean isRecentlyReplaced(String tokenId, long nowMillis, long graceMillis) {
+        return !revoked && tokenId.equals(previousTokenId) && nowMillis - rotatedAtMillis <= graceMillis;
+    }
+}
@@ -0,0 +1,84 @@
+package com.reviewduck.auth.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewduck.auth.domain.RefreshTokenFamily;
+
+/*
+    이 노드에서 만들거나 읽은 계열과 이 노드에서 바꾼 token id 를 메모리에 두고, 쓰기는 모두 저장소에 바로 반영한다.
+    폐기된 계열과 이미 바뀐 token 은 다시 유효해지지 않으므로, 메모리에서 알고 있으면 저장소에 묻지 않고 바로 거절한다.
+    그 밖의 rotate 는 다른 노드가 바꿨을 수 있으므로 항상 저장소의 조건부 update 로 확인한다.
+ */
+public class CachedRefreshTokenFamilyStore implements RefreshTokenFamilyStore {
+
+    private final RefreshTokenFamilyStore delegate;
+    private final Cache<String, RefreshTokenFamily> families;
+    private final Cache<String, String> replacedTokenIds;
+
+    public CachedRefreshTokenFamilyStore(RefreshTokenFamilyStore delegate, long maximumSize, Duration expiration) {
+        this.delegate = delegate;
+        this.families = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+        this.replacedTokenIds = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    @Override
+    public void save(RefreshTokenFamily family) {
+        delegate.save(family);
+        families.put(family.getFamilyId(), family);
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> findById(String familyId) {
+        return Optional.ofNullable(families.get(familyId, id -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public boolean rotate(String familyId, String currentTokenId, String nextTokenId, long rotatedAtMillis,
+        long expiresAtMillis) {
+        RefreshTokenFamily cached = families.getIfPresent(familyId);
+        if (cached != null && cached.isRevoked()) {
+            return false;
+        }
+        if (replacedTokenIds.getIfPresent(currentTokenId) != null) {
+            return false;
+        }
+
+        if (!delegate.rotate(familyId, currentTokenId, nextTokenId, rotatedAtMillis, expiresAtMillis)) {
+            families.invalidate(familyId);
+            return false;
+        }
+        replacedTokenIds.put(currentTokenId, familyId);
+        families.asMap().computeIfPresent(familyId,
+            (id, family) -> family.rotate(nextTokenId, rotatedAtMillis, expiresAtMillis));
+        return true;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        delegate.revoke(familyId);
+        families.asMap().computeIfPresent(familyId, (id, family) -> family.revoke());
+    }
+
+    /*
+        회원 탈퇴처럼 드물게 일어나므로 메모리의 계열을 모두 훑어 해당 회원의 계열을 폐기 상태로 바꾼다.
+     */
+    @Override
+    public void revokeAllByMemberId(long memberId) {
+        delegate.revokeAllByMemberId(memberId);
+        families.asMap().replaceAll((id, family) -> family.getMemberId() == memberId ? family.revoke() : family);
+    }
+
+    @Override
+    public void deleteAllExpired(long nowMillis) {
+        delegate.deleteAllExpired(nowMillis);
+    }
+}
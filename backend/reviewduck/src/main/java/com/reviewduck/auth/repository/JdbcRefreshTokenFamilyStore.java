@@ -0,0 +1,71 @@
+package com.reviewduck.auth.repository;
+
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reviewduck.auth.domain.RefreshTokenFamily;
+
+/*
+    refresh_token_family 테이블에 계열을 저장한다.
+    재발급 직후 다른 노드로 온 요청도 바뀐 token id 를 봐야 하므로 source 에서 읽고 쓴다.
+ */
+public class JdbcRefreshTokenFamilyStore implements RefreshTokenFamilyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRefreshTokenFamilyStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void save(RefreshTokenFamily family) {
+        jdbcTemplate.update("insert into refresh_token_family "
+                + "(family_id, member_id, token_id, previous_token_id, rotated_at, revoked, expires_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?)",
+            family.getFamilyId(), family.getMemberId(), family.getTokenId(), family.getPreviousTokenId(),
+            family.getRotatedAtMillis(), family.isRevoked(), family.getExpiresAtMillis());
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> findById(String familyId) {
+        return jdbcTemplate.query(
+                "select family_id, member_id, token_id, previous_token_id, rotated_at, revoked, expires_at "
+                    + "from refresh_token_family where family_id = ?",
+                (rs, rowNum) -> new RefreshTokenFamily(rs.getString("family_id"), rs.getLong("member_id"),
+                    rs.getString("token_id"), rs.getString("previous_token_id"), rs.getLong("rotated_at"),
+                    rs.getBoolean("revoked"), rs.getLong("expires_at")),
+                familyId)
+            .stream()
+            .findAny();
+    }
+
+    /*
+        MySQL 은 set 절을 왼쪽부터 적용하므로 previous_token_id 에는 바뀌기 전의 token_id 가 들어간다.
+     */
+    @Override
+    public boolean rotate(String familyId, String currentTokenId, String nextTokenId, long rotatedAtMillis,
+        long expiresAtMillis) {
+        return jdbcTemplate.update("update refresh_token_family "
+                + "set previous_token_id = token_id, token_id = ?, rotated_at = ?, expires_at = ? "
+                + "where family_id = ? and token_id = ? and revoked = false and expires_at > ?",
+            nextTokenId, rotatedAtMillis, expiresAtMillis, familyId, currentTokenId, rotatedAtMillis) == 1;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        jdbcTemplate.update("update refresh_token_family set revoked = true where family_id = ?", familyId);
+    }
+
+    @Override
+    public void revokeAllByMemberId(long memberId) {
+        jdbcTemplate.update("update refresh_token_family set revoked = true where member_id = ?", memberId);
+    }
+
+    @Override
+    public void deleteAllExpired(long nowMillis) {
+        jdbcTemplate.update("delete from refresh_token_family where expires_at <= ?", nowMillis);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reviewduck.auth.repository;
+
+import java.util.Optional;
+
+import com.reviewduck.auth.domain.RefreshTokenFamily;
+
+/*
+    refresh token 계열을 저장한다.
+    rotate 는 현재 token id 가 일치하고 폐기되지 않은 계열만 바꾸므로, 같은 token 으로 두 번 재발급할 수 없다.
+ */
+public interface RefreshTokenFamilyStore {
+
+    void save(RefreshTokenFamily family);
+
+    Optional<RefreshTokenFamily> findById(String familyId);
+
+    boolean rotate(String familyId, String currentTokenId, String nextTokenId, long rotatedAtMillis,
+        long expiresAtMillis);
+
+    void revoke(String familyId);
+
+    void revokeAllByMemberId(long memberId);
+
+    void deleteAllExpired(long nowMillis);
+}
@@ -1,24 +1,24 @@
 package com.reviewduck.auth.service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.reviewduck.auth.dto.request.GithubTokenRequest;
 import com.reviewduck.auth.dto.request.LoginRequest;
 import com.reviewduck.auth.dto.response.GithubMemberResponse;
-import com.reviewduck.auth.dto.response.GithubTokenResponse;
 import com.reviewduck.auth.dto.service.TokensDto;
-import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.support.GithubOAuthClient;
 import com.reviewduck.auth.support.JwtTokenProvider;
+import com.reviewduck.auth.support.RefreshTokenClaims;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
 
@@ -27,100 +27,74 @@ import com.reviewduck.member.repository.MemberRepository;
 public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final GithubOAuthClient githubOAuthClient;
+    private final RefreshTokenService refreshTokenService;
     private final MemberRepository memberRepository;
-
-    @Value("${security.oauth2.client-id}")
-    private String clientId;
-
-    @Value("${security.oauth2.client-secret}")
-    private String clientSecret;
-
-    public AuthService(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper,
-        RestTemplate restTemplate, MemberRepository memberRepository) {
+    private final TransactionTemplate transactionTemplate;
+
+    /*
+        로그인의 DB 작업은 외부 HTTP 응답을 처리하는 스레드가 아닌 이 스레드에서 실행한다.
+        커넥션을 기다리는 동안 외부 요청의 응답 처리가 막히지 않게 하고, 동시에 실행되는 DB 작업 수를 제한한다.
+        대기열이 가득 차면 로그인은 TaskRejectedException 으로 실패한다.
+     */
+    private final ThreadPoolTaskExecutor loginExecutor;
+
+    public AuthService(JwtTokenProvider jwtTokenProvider, GithubOAuthClient githubOAuthClient,
+        RefreshTokenService refreshTokenService, MemberRepository memberRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${auth.login.db-pool-size:4}") int dbPoolSize,
+        @Value("${auth.login.db-queue-capacity:100}") int dbQueueCapacity) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.objectMapper = objectMapper;
-        this.restTemplate = restTemplate;
+        this.githubOAuthClient = githubOAuthClient;
+        this.refreshTokenService = refreshTokenService;
         this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.loginExecutor = new ThreadPoolTaskExecutor();
+        loginExecutor.setCorePoolSize(dbPoolSize);
+        loginExecutor.setMaxPoolSize(dbPoolSize);
+        loginExecutor.setQueueCapacity(dbQueueCapacity);
+        loginExecutor.setThreadNamePrefix("login-db-");
+        loginExecutor.initialize();
     }
 
-    @Transactional
-    public TokensDto createTokens(LoginRequest loginRequest) {
-        String githubAccessToken = getGithubAccessToken(loginRequest.getCode());
-        GithubMemberResponse githubMemberResponse = getGithubMemberResponse(githubAccessToken);
-
-        Member loginMember = login(githubMemberResponse);
+    /*
+        깃허브 요청은 트랜잭션 밖에서 비동기로 보내고, 응답을 받은 뒤 회원 저장과 refresh token 발급을 DB 스레드에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<TokensDto> createTokens(LoginRequest loginRequest) {
+        return githubOAuthClient.fetchMember(loginRequest.getCode())
+            .thenApplyAsync(githubMemberResponse -> {
+                Member loginMember = transactionTemplate.execute(status -> login(githubMemberResponse));
+                return generateTokens(loginMember.getId());
+            }, loginExecutor);
+    }
 
-        return generateTokens(loginMember.getId());
+    @PreDestroy
+    public void shutdownLoginExecutor() {
+        loginExecutor.shutdown();
     }
 
-    @Transactional
+    /*
+        회원은 refresh token 의 subject 로 알 수 있으므로 DB 에서 조회하지 않는다.
+        탈퇴한 회원의 계열은 탈퇴할 때 모두 폐기되므로 rotate 에서 거절된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokensDto regenerateTokens(String refreshToken) {
-        jwtTokenProvider.validateRefreshToken(refreshToken);
-        long memberId = Long.parseLong(jwtTokenProvider.getRefreshTokenPayload(refreshToken));
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new AuthorizationException("존재하지 않는 사용자입니다."));
-        return generateTokens(member.getId());
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        String nextRefreshToken = refreshTokenService.rotate(claims);
+        String accessToken = jwtTokenProvider.createAccessToken(claims.getSubject());
+
+        return new TokensDto(accessToken, nextRefreshToken);
     }
 
     private TokensDto generateTokens(long memberId) {
         String accessToken = jwtTokenProvider.createAccessToken(String.valueOf(memberId));
-        String refreshToken = jwtTokenProvider.createRefreshToken(String.valueOf(memberId));
+        String refreshToken = refreshTokenService.issue(memberId);
 
         return new TokensDto(accessToken, refreshToken);
     }
 
-    private String getGithubAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        headers.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-        GithubTokenRequest accessTokenRequest = new GithubTokenRequest(clientId, clientSecret, code);
-
-        HttpEntity<GithubTokenRequest> httpEntity = new HttpEntity<>(accessTokenRequest, headers);
-        GithubTokenResponse githubTokenResponse = restTemplate.exchange(
-            "https://github.com/login/oauth/access_token",
-            HttpMethod.POST,
-            httpEntity,
-            GithubTokenResponse.class
-        ).getBody();
-
-        validateTokenResponse(githubTokenResponse);
-        return githubTokenResponse.getAccessToken();
-    }
-
-    private void validateTokenResponse(GithubTokenResponse githubTokenResponse) {
-        if (githubTokenResponse != null && githubTokenResponse.getAccessToken() == null) {
-            throw new AuthorizationException("깃허브 로그인이 실패했습니다.");
-        }
-    }
-
-    private GithubMemberResponse getGithubMemberResponse(String githubAccessToken) {
-        String token = "token " + githubAccessToken;
-
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add(HttpHeaders.AUTHORIZATION, token);
-        httpHeaders.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-        HttpEntity<Void> httpEntity = new HttpEntity<>(httpHeaders);
-
-        GithubMemberResponse githubMemberResponse = restTemplate.exchange(
-            "https://api.github.com/user",
-            HttpMethod.GET,
-            httpEntity,
-            GithubMemberResponse.class,
-            objectMapper
-        ).getBody();
-
-        validateMemberResponse(githubMemberResponse);
-        return githubMemberResponse;
-    }
-
-    private void validateMemberResponse(GithubMemberResponse githubMemberResponse) {
-        if (githubMemberResponse == null) {
-            throw new AuthorizationException("깃허브 유저 정보 가져오기가 실패했습니다.");
-        }
-    }
-
     private Member login(GithubMemberResponse githubMemberResponse) {
         Optional<Member> member = memberRepository.findBySocialId(githubMemberResponse.getSocialId());
         if (member.isEmpty()) {
@@ -0,0 +1,94 @@
+package com.reviewduck.auth.service;
+
+import static com.reviewduck.common.util.Logging.*;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.reviewduck.auth.domain.RefreshTokenFamily;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.repository.RefreshTokenFamilyStore;
+import com.reviewduck.auth.support.JwtTokenProvider;
+import com.reviewduck.auth.support.RefreshTokenClaims;
+
+/*
+    refresh token 을 계열 단위로 발급하고 재발급할 때마다 계열의 현재 token 을 바꾼다.
+    재발급 한 번은 저장소에 조건부 update 한 번이다.
+    어느 노드로 온 재발급이든 같은 현재 token id 를 봐야 재사용을 감지할 수 있으므로 메모리의 계열만으로 통과시키지 않는다.
+    이미 바뀐 token 으로 재발급을 시도하면 탈취된 것으로 보고 계열 전체를 폐기한다.
+    단, 여러 탭이 같은 token 으로 동시에 재발급할 수 있으므로 바로 이전 token 은 짧은 유예 시간 동안 현재 token 으로 돌려준다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private final long reuseGraceMillis;
+
+    public RefreshTokenService(JwtTokenProvider jwtTokenProvider, RefreshTokenFamilyStore refreshTokenFamilyStore,
+        @Value("${security.jwt.refresh-token.reuse-grace-millis:10000}") long reuseGraceMillis) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenFamilyStore = refreshTokenFamilyStore;
+        this.reuseGraceMillis = reuseGraceMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-token.purge-delay-millis:600000}",
+        initialDelayString = "${security.jwt.refresh-token.purge-delay-millis:600000}")
+    public void deleteAllExpired() {
+        try {
+            refreshTokenFamilyStore.deleteAllExpired(System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            error("만료된 refresh token 계열을 삭제하지 못했습니다.");
+        }
+    }
+
+    public String issue(long memberId) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAtMillis = jwtTokenProvider.getRefreshTokenExpiresAtMillis(System.currentTimeMillis());
+
+        refreshTokenFamilyStore.save(RefreshTokenFamily.start(familyId, memberId, tokenId, expiresAtMillis));
+        return jwtTokenProvider.createRefreshToken(String.valueOf(memberId), familyId, tokenId, expiresAtMillis);
+    }
+
+    /*
+        계열이 없는 token 은 계열을 도입하기 전에 발급된 것이므로 새 계열을 시작한다.
+        이런 token 은 만료될 때까지 재사용을 감지할 수 없다.
+     */
+    public String rotate(RefreshTokenClaims claims) {
+        if (!claims.hasFamily()) {
+            return issue(Long.parseLong(claims.getSubject()));
+        }
+
+        String familyId = claims.getFamilyId();
+        String nextTokenId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = jwtTokenProvider.getRefreshTokenExpiresAtMillis(now);
+        if (refreshTokenFamilyStore.rotate(familyId, claims.getTokenId(), nextTokenId, now, expiresAtMillis)) {
+            return jwtTokenProvider.createRefreshToken(claims.getSubject(), familyId, nextTokenId, expiresAtMillis);
+        }
+
+        RefreshTokenFamily family = refreshTokenFamilyStore.findById(familyId)
+            .filter(found -> !found.isRevoked())
+            .orElseThrow(() -> new AuthorizationException("폐기된 로그인입니다. 다시 로그인해주세요."));
+        if (family.isRecentlyReplaced(claims.getTokenId(), now, reuseGraceMillis)) {
+            return jwtTokenProvider.createRefreshToken(claims.getSubject(), familyId, family.getTokenId(),
+                family.getExpiresAtMillis());
+        }
+
+        revoke(familyId);
+        throw new AuthorizationException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+    }
+
+    public void revoke(String familyId) {
+        refreshTokenFamilyStore.revoke(familyId);
+    }
+
+    public void revokeAll(long memberId) {
+        refreshTokenFamilyStore.revokeAllByMemberId(memberId);
+    }
+}
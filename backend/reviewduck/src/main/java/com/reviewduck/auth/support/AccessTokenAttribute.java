@@ -0,0 +1,24 @@
+package com.reviewduck.auth.support;
+
+import javax.servlet.http.HttpServletRequest;
+
+/*
+    한 요청 안에서 access token 을 한 번만 검증하도록 검증한 claim 을 요청 attribute 에 담아 둔다.
+    인터셉터가 검증하지 않은 요청은 처음 꺼내는 곳에서 검증한다.
+ */
+public class AccessTokenAttribute {
+
+    private static final String ATTRIBUTE_NAME = AccessTokenAttribute.class.getName();
+
+    public static AccessTokenClaims resolve(HttpServletRequest request, JwtTokenProvider jwtTokenProvider) {
+        Object verified = request.getAttribute(ATTRIBUTE_NAME);
+        if (verified instanceof AccessTokenClaims) {
+            return (AccessTokenClaims)verified;
+        }
+
+        String token = AuthorizationExtractor.extract(request);
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+        request.setAttribute(ATTRIBUTE_NAME, claims);
+        return claims;
+    }
+}
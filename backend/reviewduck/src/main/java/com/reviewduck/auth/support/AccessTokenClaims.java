@@ -0,0 +1,16 @@
+package com.reviewduck.auth.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class AccessTokenClaims {
+
+    private final String subject;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,150 @@
+package com.reviewduck.auth.support;
+
+import static com.reviewduck.common.util.Logging.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reviewduck.auth.dto.request.GithubTokenRequest;
+import com.reviewduck.auth.dto.response.GithubMemberResponse;
+import com.reviewduck.auth.dto.response.GithubTokenResponse;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.config.http.OutboundHttpClient;
+
+/*
+    깃허브 OAuth 요청을 OutboundHttpClient 로 비동기로 보낸다. 응답을 기다리는 동안 요청 스레드나 DB 커넥션을 붙잡지 않는다.
+    동시에 진행 중인 로그인 수를 제한하고, 제한을 넘으면 기다리지 않고 바로 실패시킨다.
+ */
+@Component
+public class GithubOAuthClient {
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader tokenReader;
+    private final ObjectReader memberReader;
+    private final Semaphore permits;
+    private final URI tokenUri;
+    private final URI userUri;
+    private final String clientId;
+    private final String clientSecret;
+
+    public GithubOAuthClient(OutboundHttpClient outboundHttpClient, ObjectMapper objectMapper,
+        @Value("${security.oauth2.client-id}") String clientId,
+        @Value("${security.oauth2.client-secret}") String clientSecret,
+        @Value("${security.oauth2.token-uri:https://github.com/login/oauth/access_token}") String tokenUri,
+        @Value("${security.oauth2.user-uri:https://api.github.com/user}") String userUri,
+        @Value("${security.oauth2.max-concurrency:50}") int maxConcurrency) {
+        this.outboundHttpClient = outboundHttpClient;
+        this.objectMapper = objectMapper;
+        this.tokenReader = objectMapper.readerFor(GithubTokenResponse.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.memberReader = objectMapper.readerFor(GithubMemberResponse.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.permits = new Semaphore(maxConcurrency);
+        this.tokenUri = URI.create(tokenUri);
+        this.userUri = URI.create(userUri);
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+    }
+
+    public CompletableFuture<GithubMemberResponse> fetchMember(String code) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                new AuthorizationException("깃허브 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        try {
+            return requestAccessToken(code)
+                .thenCompose(this::requestMember)
+                .handle((member, exception) -> {
+                    permits.release();
+                    if (exception != null) {
+                        throw new CompletionException(toAuthorizationException(exception));
+                    }
+                    return member;
+                });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private CompletableFuture<String> requestAccessToken(String code) {
+        HttpRequest request = outboundHttpClient.newRequest(tokenUri)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(new GithubTokenRequest(clientId, clientSecret, code))))
+            .build();
+
+        return outboundHttpClient.send(request)
+            .thenApply(response -> {
+                GithubTokenResponse tokenResponse = read(response, tokenReader, "깃허브 로그인이 실패했습니다.");
+                if (tokenResponse == null || tokenResponse.getAccessToken() == null) {
+                    throw new AuthorizationException("깃허브 로그인이 실패했습니다.");
+                }
+                return tokenResponse.getAccessToken();
+            });
+    }
+
+    private CompletableFuture<GithubMemberResponse> requestMember(String githubAccessToken) {
+        HttpRequest request = outboundHttpClient.newRequest(userUri)
+            .header(HttpHeaders.AUTHORIZATION, "token " + githubAccessToken)
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .GET()
+            .build();
+
+        return outboundHttpClient.send(request)
+            .thenApply(response -> {
+                GithubMemberResponse memberResponse = read(response, memberReader, "깃허브 유저 정보 가져오기가 실패했습니다.");
+                if (memberResponse == null) {
+                    throw new AuthorizationException("깃허브 유저 정보 가져오기가 실패했습니다.");
+                }
+                return memberResponse;
+            });
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T read(HttpResponse<String> response, ObjectReader reader, String failureMessage) {
+        if (response.statusCode() / 100 != 2) {
+            throw new AuthorizationException(failureMessage);
+        }
+
+        try {
+            return reader.readValue(response.body());
+        } catch (IOException e) {
+            throw new AuthorizationException(failureMessage);
+        }
+    }
+
+    private AuthorizationException toAuthorizationException(Throwable exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+            ? exception.getCause() : exception;
+        if (cause instanceof AuthorizationException) {
+            return (AuthorizationException)cause;
+        }
+
+        error("깃허브 OAuth 요청에 실패했습니다. " + cause);
+        return new AuthorizationException("깃허브 서버와 통신하지 못했습니다.");
+    }
+}
@@ -1,34 +1,55 @@
 package com.reviewduck.auth.support;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.reviewduck.auth.exception.AuthorizationException;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
+/*
+    검증에 성공한 access token 은 token 의 SHA-256 해시를 키로 subject 와 만료 시각을 캐싱해 서명 검증을 반복하지 않는다.
+    해시가 같으려면 token 이 같아야 하므로 위조한 token 이 캐시에 적중하지 않고, 캐시된 token 도 만료 시각이 지나면 거부한다.
+    캐시 항목은 token 이 만료되는 시각에 함께 만료된다.
+ */
 @Component
 public class JwtTokenProvider {
 
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+    private static final String FAMILY_ID_CLAIM = "fid";
+
     private final long validityInMilliseconds;
     private final long refreshValidityInMilliseconds;
     private final String secretKey;
     private final String refreshSecretKey;
+    private final Cache<String, AccessTokenClaims> verifiedAccessTokens;
 
     public JwtTokenProvider(@Value("${security.jwt.token.expire-length}") long validityInMilliseconds,
         @Value("${security.jwt.refresh-token.expire-length}") long refreshValidityInMilliseconds,
         @Value("${security.jwt.token.secret-key}") String secretKey,
-        @Value("${security.jwt.refresh-token.secret-key}") String refreshSecretKey) {
+        @Value("${security.jwt.refresh-token.secret-key}") String refreshSecretKey,
+        @Value("${security.jwt.token.cache-size:10000}") long verifiedTokenCacheSize) {
         this.validityInMilliseconds = validityInMilliseconds;
         this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
         this.secretKey = secretKey;
         this.refreshSecretKey = refreshSecretKey;
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfter(new UntilTokenExpiration())
+            .build();
     }
 
     public String createAccessToken(String payload) {
@@ -44,47 +65,68 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    public String createRefreshToken(String payload) {
+    public long getRefreshTokenExpiresAtMillis(long nowMillis) {
+        return nowMillis + refreshValidityInMilliseconds;
+    }
+
+    public String createRefreshToken(String payload, String familyId, String tokenId, long expiresAtMillis) {
         Claims claims = Jwts.claims().setSubject(payload);
-        Date now = new Date();
-        Date refreshValidity = new Date(now.getTime() + refreshValidityInMilliseconds);
+        claims.put(FAMILY_ID_CLAIM, familyId);
 
         return Jwts.builder()
             .setClaims(claims)
-            .setIssuedAt(now)
-            .setExpiration(refreshValidity)
+            .setId(tokenId)
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(expiresAtMillis))
             .signWith(SignatureAlgorithm.HS256, refreshSecretKey)
             .compact();
     }
 
-    public String getAccessTokenPayload(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token)
-            .getBody().getSubject();
-    }
+    public AccessTokenClaims parseAccessToken(String token) {
+        validateNullToken(token);
 
-    public String getRefreshTokenPayload(String token) {
-        return Jwts.parser().setSigningKey(refreshSecretKey).parseClaimsJws(token)
-            .getBody().getSubject();
+        String tokenHash = hash(token);
+        AccessTokenClaims claims = verifiedAccessTokens.get(tokenHash, ignored -> verify(token));
+        if (claims == null || claims.isExpired(System.currentTimeMillis())) {
+            throw new AuthorizationException("인증되지 않은 사용자입니다.");
+        }
+        return claims;
     }
 
-    public boolean isInvalidToken(String token, String secretKey) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        validateNullToken(token);
 
-            return claims.getBody().getExpiration().before(new Date());
+        try {
+            Claims claims = Jwts.parser().setSigningKey(refreshSecretKey).parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                throw new AuthorizationException("인증되지 않은 사용자입니다.");
+            }
+            return new RefreshTokenClaims(claims.getSubject(), claims.get(FAMILY_ID_CLAIM, String.class),
+                claims.getId());
         } catch (JwtException | IllegalArgumentException e) {
-            return true;
+            throw new AuthorizationException("인증되지 않은 사용자입니다.");
         }
     }
 
-    public void validateAccessToken(String token) {
-        validateNullToken(token);
-        validateInvalidToken(token, secretKey);
+    private AccessTokenClaims verify(String token) {
+        try {
+            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            return new AccessTokenClaims(claims.getSubject(), claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
-    public void validateRefreshToken(String token) {
-        validateNullToken(token);
-        validateInvalidToken(token, refreshSecretKey);
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     private void validateNullToken(String token) {
@@ -93,9 +135,24 @@ public class JwtTokenProvider {
         }
     }
 
-    private void validateInvalidToken(String token, String secretKey) {
-        if (isInvalidToken(token, secretKey)) {
-            throw new AuthorizationException("인증되지 않은 사용자입니다.");
+    private static class UntilTokenExpiration implements Expiry<String, AccessTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, AccessTokenClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AccessTokenClaims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, AccessTokenClaims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.reviewduck.auth.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RefreshTokenClaims {
+
+    private final String subject;
+    private final String familyId;
+    private final String tokenId;
+
+    public boolean hasFamily() {
+        return familyId != null && tokenId != null;
+    }
+}
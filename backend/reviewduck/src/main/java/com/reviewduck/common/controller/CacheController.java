@@ -1,12 +1,18 @@
 package com.reviewduck.common.controller;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.reviewduck.common.dto.CacheMetricsResponse;
+import com.reviewduck.common.dto.CacheMetricsSummaryResponse;
+import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.config.cache.CacheType;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -17,24 +23,24 @@ public class CacheController {
 
     private final CacheManager cacheManager;
 
-    @Operation(summary = "Member Cache Metric을 조회한다.")
-    @GetMapping("/metrics/cache/member")
-    public CacheMetricsResponse getMemberCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("memberCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+    @Operation(summary = "전체 Cache Metric 요약을 조회한다.")
+    @GetMapping("/metrics/cache")
+    public CacheMetricsSummaryResponse getCacheMetricsSummary() {
+        List<CacheMetricsResponse> caches = Arrays.stream(CacheType.values())
+            .map(this::getMetrics)
+            .collect(Collectors.toUnmodifiableList());
+        return CacheMetricsSummaryResponse.from(caches);
     }
 
-    @Operation(summary = "Template Cache Metric을 조회한다.")
-    @GetMapping("/metrics/cache/template")
-    public CacheMetricsResponse getTemplateCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("templateCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+    @Operation(summary = "Cache Metric을 조회한다.")
+    @GetMapping("/metrics/cache/{name}")
+    public CacheMetricsResponse getCacheMetrics(@PathVariable String name) {
+        CacheType cacheType = CacheType.findByName(name)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 캐시입니다."));
+        return getMetrics(cacheType);
     }
 
-    @Operation(summary = "Template list Cache Metric을 조회한다.")
-    @GetMapping("/metrics/cache/templates")
-    public CacheMetricsResponse getTemplatesCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("templatesCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+    private CacheMetricsResponse getMetrics(CacheType cacheType) {
+        return CacheMetricsResponse.of(cacheType.getCacheName(), cacheType.getNativeCache(cacheManager));
     }
 }
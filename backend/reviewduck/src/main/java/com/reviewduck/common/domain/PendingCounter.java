@@ -0,0 +1,78 @@
+package com.reviewduck.common.domain;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 에 아직 반영되지 않은 id 별 개수
+ * 한 id 로 요청이 몰려도 경합하지 않도록 id 마다 LongAdder 로 누적하고, drain 으로 한 번에 꺼내 간다.
+ * 꺼낼 것이 없던 id 는 제거해 한 번이라도 더해진 id 만큼 계속 늘어나지 않게 한다.
+ * 제거되는 도중에 더해진 개수는 제거된 항목에서 다시 꺼내 새 항목으로 옮기므로 유실되거나 두 번 세어지지 않는다.
+ */
+public class PendingCounter {
+
+    private final Map<Long, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+
+    public long increase(long id, long count) {
+        PendingCount pending = pendingCounts.computeIfAbsent(id, key -> new PendingCount());
+        pending.adder.add(count);
+        if (pending.removed) {
+            return moveStranded(id, pending);
+        }
+        return pending.adder.sum();
+    }
+
+    public long getPendingCount(long id) {
+        PendingCount pending = pendingCounts.get(id);
+        if (pending == null) {
+            return 0;
+        }
+        return pending.adder.sum();
+    }
+
+    public int size() {
+        return pendingCounts.size();
+    }
+
+    /*
+        id 순서로 꺼내 반영하는 쪽이 같은 순서로 row lock 을 잡게 한다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new TreeMap<>();
+        pendingCounts.forEach((id, pending) -> {
+            long count = pending.adder.sumThenReset();
+            if (count != 0) {
+                drained.put(id, count);
+                return;
+            }
+            remove(id, pending);
+        });
+        return drained;
+    }
+
+    /*
+        제거 표시를 먼저 남긴 뒤 남은 값을 한 번 더 꺼낸다.
+        표시 전에 더해진 값은 여기서 꺼내고, 표시 후에 더한 쪽은 표시를 보고 직접 꺼내 옮긴다.
+     */
+    private void remove(long id, PendingCount pending) {
+        pending.removed = true;
+        pendingCounts.remove(id, pending);
+        moveStranded(id, pending);
+    }
+
+    private long moveStranded(long id, PendingCount pending) {
+        long stranded = pending.adder.sumThenReset();
+        if (stranded == 0) {
+            return getPendingCount(id);
+        }
+        return increase(id, stranded);
+    }
+
+    private static class PendingCount {
+
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean removed;
+    }
+}
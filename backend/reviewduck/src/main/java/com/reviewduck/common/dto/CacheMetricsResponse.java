@@ -1,5 +1,6 @@
 package com.reviewduck.common.dto;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import lombok.AccessLevel;
@@ -10,15 +11,20 @@ import lombok.Getter;
 @Getter
 public class CacheMetricsResponse {
 
+    private String cacheName;
+    private long size;
     private long requestCount;
+    private long hitCount;
     private double hitRate;
     private long missCount;
     private long evictionCount;
     private double totalLoadTime;
     private double averageLoadPenalty;
 
-    public static CacheMetricsResponse from(CacheStats stats) {
-        return new CacheMetricsResponse(stats.requestCount(), stats.hitRate(), stats.missCount(), stats.evictionCount(),
-            stats.totalLoadTime(), stats.averageLoadPenalty());
+    public static CacheMetricsResponse of(String cacheName, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheMetricsResponse(cacheName, cache.estimatedSize(), stats.requestCount(), stats.hitCount(),
+            stats.hitRate(), stats.missCount(), stats.evictionCount(), stats.totalLoadTime(),
+            stats.averageLoadPenalty());
     }
 }
@@ -0,0 +1,29 @@
+package com.reviewduck.common.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CacheMetricsSummaryResponse {
+
+    private long requestCount;
+    private long hitCount;
+    private double hitRate;
+    private List<CacheMetricsResponse> caches;
+
+    public static CacheMetricsSummaryResponse from(List<CacheMetricsResponse> caches) {
+        long requestCount = caches.stream()
+            .mapToLong(CacheMetricsResponse::getRequestCount)
+            .sum();
+        long hitCount = caches.stream()
+            .mapToLong(CacheMetricsResponse::getHitCount)
+            .sum();
+        double hitRate = requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+
+        return new CacheMetricsSummaryResponse(requestCount, hitCount, hitRate, caches);
+    }
+}
@@ -8,9 +8,4 @@ public class Logging {
     public static void error(String message) {
         log.error(message);
     }
-
-    public static void info(String uri, String method, String request) {
-        log.info("uri={}, method = {}, request = {}",
-            uri, method, request);
-    }
 }
@@ -0,0 +1,25 @@
+package com.reviewduck.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+    /*
+        트랜잭션 안에서 호출하면 커밋된 뒤에 실행하고, 롤백되면 실행하지 않는다.
+        트랜잭션 밖에서 호출하면 바로 실행한다.
+     */
+    public static void runAfterCommit(Runnable operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            operation.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                operation.run();
+            }
+        });
+    }
+}
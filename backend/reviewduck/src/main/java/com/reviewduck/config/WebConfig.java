@@ -1,17 +1,27 @@
 package com.reviewduck.config;
 
-import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.reviewduck.config.datasource.DataSourceRoutingContextInterceptor;
+import com.reviewduck.config.logging.AccessLogInterceptor;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     public static final String ALLOWED_METHOD_NAMES = "GET,HEAD,POST,PUT,DELETE,TRACE,OPTIONS,PATCH";
 
+    private final ObjectProvider<AccessLogInterceptor> accessLogInterceptor;
+
+    public WebConfig(ObjectProvider<AccessLogInterceptor> accessLogInterceptor) {
+        this.accessLogInterceptor = accessLogInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -21,8 +31,15 @@ public class WebConfig implements WebMvcConfigurer {
             .exposedHeaders(HttpHeaders.LOCATION);
     }
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        /*
+            걸린 시간에 다른 인터셉터의 처리 시간도 포함되도록 가장 먼저 등록한다.
+            컨트롤러만 띄우는 테스트에서는 AccessLogConfig 가 없으므로 등록하지 않는다.
+         */
+        accessLogInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+            .order(Ordered.HIGHEST_PRECEDENCE));
+        registry.addInterceptor(new DataSourceRoutingContextInterceptor())
+            .order(Ordered.HIGHEST_PRECEDENCE);
     }
 }
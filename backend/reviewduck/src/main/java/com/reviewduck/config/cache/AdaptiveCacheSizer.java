@@ -0,0 +1,139 @@
+package com.reviewduck.config.cache;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    주기마다 캐시별 적중률, 축출 수, 힙 사용률을 보고 Caffeine 캐시의 최대 크기를 CacheType 의 범위 안에서 조정한다.
+    - 힙 사용률이 상한을 넘으면 모든 캐시를 줄인다.
+    - 축출이 있었고 적중률이 목표보다 낮으면 캐시를 키운다. 힙 사용률이 하한을 넘으면 키우지 않는다.
+    - 축출 없이 절반도 채우지 못하면 사용량에 맞춰 줄인다.
+    조정 결과는 로그로 남기고 cache.max.size 게이지와 cache.resize 카운터로 노출한다.
+ */
+@Slf4j
+public class AdaptiveCacheSizer {
+
+    private static final double GROW_FACTOR = 1.5;
+    private static final double SHRINK_FACTOR = 0.75;
+    private static final double UNDERUSED_RATIO = 0.5;
+    private static final double HEADROOM_FACTOR = 1.25;
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final double targetHitRatio;
+    private final long minRequestCount;
+    private final double heapLowWatermark;
+    private final double heapHighWatermark;
+    private final DoubleSupplier heapUsage;
+    private final Map<CacheType, CacheStats> lastStats = new ConcurrentHashMap<>();
+
+    public AdaptiveCacheSizer(CacheManager cacheManager, MeterRegistry meterRegistry, double targetHitRatio,
+        long minRequestCount, double heapLowWatermark, double heapHighWatermark, DoubleSupplier heapUsage) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.targetHitRatio = targetHitRatio;
+        this.minRequestCount = minRequestCount;
+        this.heapLowWatermark = heapLowWatermark;
+        this.heapHighWatermark = heapHighWatermark;
+        this.heapUsage = heapUsage;
+
+        for (CacheType cacheType : CacheType.values()) {
+            Cache<Object, Object> cache = cacheType.getNativeCache(cacheManager);
+            Gauge.builder("cache.max.size", cache, AdaptiveCacheSizer::getMaximum)
+                .tag("cache", cacheType.getCacheName())
+                .description("adaptive cache sizing 으로 조정된 최대 크기")
+                .register(meterRegistry);
+        }
+    }
+
+    /*
+        최대 힙을 알 수 없으면 힙 압박이 없는 것으로 본다.
+     */
+    public static double currentHeapUsage() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        if (heap.getMax() <= 0) {
+            return 0;
+        }
+        return (double)heap.getUsed() / heap.getMax();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.adaptive.interval-millis:60000}")
+    public void resize() {
+        double currentHeapUsage = heapUsage.getAsDouble();
+        for (CacheType cacheType : CacheType.values()) {
+            resize(cacheType, currentHeapUsage);
+        }
+    }
+
+    private void resize(CacheType cacheType, double currentHeapUsage) {
+        Cache<Object, Object> cache = cacheType.getNativeCache(cacheManager);
+        cache.cleanUp();
+
+        CacheStats stats = cache.stats();
+        CacheStats window = stats.minus(lastStats.getOrDefault(cacheType, CacheStats.empty()));
+        lastStats.put(cacheType, stats);
+
+        long maximum = getMaximum(cache);
+        if (maximum < 0) {
+            return;
+        }
+
+        long target = decideMaximum(cacheType, cache.estimatedSize(), maximum, window, currentHeapUsage);
+        if (target == maximum) {
+            return;
+        }
+
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(target));
+        String direction = target > maximum ? "grow" : "shrink";
+        Counter.builder("cache.resize")
+            .tag("cache", cacheType.getCacheName())
+            .tag("direction", direction)
+            .register(meterRegistry)
+            .increment();
+        log.info("캐시 최대 크기를 조정했습니다. cacheName={}, {} -> {}, hitRate={}, evictions={}, heapUsage={}",
+            cacheType.getCacheName(), maximum, target, window.hitRate(), window.evictionCount(), currentHeapUsage);
+    }
+
+    private long decideMaximum(CacheType cacheType, long size, long maximum, CacheStats window,
+        double currentHeapUsage) {
+        if (currentHeapUsage >= heapHighWatermark) {
+            return bound(cacheType, (long)(maximum * SHRINK_FACTOR));
+        }
+
+        boolean thrashing = window.requestCount() >= minRequestCount
+            && window.evictionCount() > 0
+            && window.hitRate() < targetHitRatio;
+        if (thrashing && currentHeapUsage < heapLowWatermark) {
+            return bound(cacheType, (long)Math.ceil(maximum * GROW_FACTOR));
+        }
+
+        if (window.evictionCount() == 0 && size < maximum * UNDERUSED_RATIO) {
+            return bound(cacheType, Math.max((long)(size * HEADROOM_FACTOR), (long)(maximum * SHRINK_FACTOR)));
+        }
+        return bound(cacheType, maximum);
+    }
+
+    private long bound(CacheType cacheType, long maximum) {
+        return Math.max(cacheType.getMinSizeLimit(), Math.min(cacheType.getMaxSizeLimit(), maximum));
+    }
+
+    private static long getMaximum(Cache<Object, Object> cache) {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.getMaximum())
+            .orElse(-1L);
+    }
+}
@@ -1,23 +1,111 @@
 package com.reviewduck.config.cache;
 
+import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Configuration
 public class CacheConfig {
 
+    /*
+        미리 갱신은 요청 스레드를 막지 않도록 별도 스레드에서 실행하고, 밀려 있으면 이번 갱신을 건너뛴다.
+        애플리케이션 기본 TaskExecutor 를 대체하지 않도록 빈으로 등록하지 않는다.
+     */
+    private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+
+    public CacheConfig(
+        @Value("${cache.refresh-ahead.pool-size:2}") int poolSize,
+        @Value("${cache.refresh-ahead.queue-capacity:100}") int queueCapacity) {
+        this.cacheRefreshExecutor = new ThreadPoolTaskExecutor();
+        cacheRefreshExecutor.setCorePoolSize(poolSize);
+        cacheRefreshExecutor.setMaxPoolSize(poolSize);
+        cacheRefreshExecutor.setQueueCapacity(queueCapacity);
+        cacheRefreshExecutor.setThreadNamePrefix("cache-refresh-");
+        cacheRefreshExecutor.initialize();
+    }
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheInvalidationBus cacheInvalidationBus(
+        @Qualifier(SOURCE) DataSource sourceDataSource,
+        @Value("${cache.invalidation.retention-millis:3600000}") long retentionMillis,
+        @Value("${cache.invalidation.gap-timeout-millis:10000}") long gapTimeoutMillis) {
+        return new JdbcCacheInvalidationBus(sourceDataSource, retentionMillis, gapTimeoutMillis);
+    }
+
+    @Bean
+    public SharedCacheStore sharedCacheStore(@Qualifier(SOURCE) DataSource sourceDataSource) {
+        return new JdbcSharedCacheStore(sourceDataSource);
+    }
 
-        List<CaffeineCache> caches = Arrays.stream(CacheType.values())
+    @Bean
+    public KeyGenerator memberKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.MEMBER, "memberId", "member.id");
+    }
+
+    @Bean
+    public KeyGenerator memberSocialIdKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.MEMBER_SOCIAL_ID, "socialId", "member.socialId");
+    }
+
+    @Bean
+    public KeyGenerator adminMemberKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.ADMIN_MEMBER, "memberId");
+    }
+
+    @Bean
+    public KeyGenerator memberPrincipalKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.MEMBER_PRINCIPAL, "memberId");
+    }
+
+    @Bean
+    public KeyGenerator adminPrincipalKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.ADMIN_PRINCIPAL, "memberId");
+    }
+
+    @Bean
+    public KeyGenerator templateKeyGenerator() {
+        return new CompactKeyGenerator(CacheKeyType.TEMPLATE, "templateId");
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus, SharedCacheStore sharedCacheStore,
+        @Value("${cache.refresh-ahead.ratio:0.8}") double refreshAheadRatio) {
+
+        Map<String, CaffeineCache> localCaches = Arrays.stream(CacheType.values())
             .map(CacheType::buildCache)
+            .collect(Collectors.toUnmodifiableMap(CaffeineCache::getName, Function.identity()));
+
+        cacheInvalidationBus.subscribe(invalidation -> applyInvalidation(localCaches, invalidation));
+
+        List<Cache> caches = Arrays.stream(CacheType.values())
+            .map(cacheType -> new RefreshAheadCache(
+                buildCache(cacheType, localCaches.get(cacheType.getCacheName()), sharedCacheStore),
+                Duration.ofMillis((long)(cacheType.getDuration() * 1000 * (1 - refreshAheadRatio))),
+                cacheRefreshExecutor))
+            .map(cache -> new InvalidationBroadcastingCache(cache, cacheInvalidationBus))
             .collect(Collectors.toUnmodifiableList());
 
         SimpleCacheManager cacheManager = new SimpleCacheManager();
@@ -25,4 +113,52 @@ public class CacheConfig {
 
         return cacheManager;
     }
+
+    /*
+        래핑된 캐시는 스프링 부트의 자동 캐시 메트릭 대상이 아니므로 CacheType 의 모든 캐시를 직접 등록한다.
+     */
+    @Bean
+    public MeterBinder cacheMeterBinder(CacheManager cacheManager) {
+        return registry -> Arrays.stream(CacheType.values())
+            .forEach(cacheType -> CaffeineCacheMetrics.monitor(registry, cacheType.getNativeCache(cacheManager),
+                cacheType.getCacheName()));
+    }
+
+    @Bean
+    public AdaptiveCacheSizer adaptiveCacheSizer(CacheManager cacheManager, MeterRegistry meterRegistry,
+        @Value("${cache.adaptive.target-hit-ratio:0.9}") double targetHitRatio,
+        @Value("${cache.adaptive.min-request-count:100}") long minRequestCount,
+        @Value("${cache.adaptive.heap-low-watermark:0.7}") double heapLowWatermark,
+        @Value("${cache.adaptive.heap-high-watermark:0.85}") double heapHighWatermark) {
+        return new AdaptiveCacheSizer(cacheManager, meterRegistry, targetHitRatio, minRequestCount,
+            heapLowWatermark, heapHighWatermark, AdaptiveCacheSizer::currentHeapUsage);
+    }
+
+    @PreDestroy
+    public void shutdownCacheRefreshExecutor() {
+        cacheRefreshExecutor.shutdown();
+    }
+
+    private Cache buildCache(CacheType cacheType, CaffeineCache localCache, SharedCacheStore sharedCacheStore) {
+        if (!cacheType.isShared()) {
+            return localCache;
+        }
+        return new TwoLevelCache(localCache, sharedCacheStore, Duration.ofSeconds(cacheType.getDuration()));
+    }
+
+    /*
+        다른 노드의 무효화는 해당 노드가 이미 공유 저장소를 비웠으므로 로컬 캐시에만 반영한다.
+     */
+    private void applyInvalidation(Map<String, CaffeineCache> localCaches, CacheInvalidation invalidation) {
+        CaffeineCache cache = localCaches.get(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            cache.clear();
+            return;
+        }
+        cache.evict(invalidation.getKey());
+    }
 }
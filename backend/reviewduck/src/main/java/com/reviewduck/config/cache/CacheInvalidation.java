@@ -0,0 +1,29 @@
+package com.reviewduck.config.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    캐시 이름과 키로 식별되는 무효화 이벤트
+    key 가 null 이면 해당 캐시 전체를 비운다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CacheInvalidation {
+
+    private final String cacheName;
+    private final Object key;
+
+    public static CacheInvalidation evict(String cacheName, Object key) {
+        return new CacheInvalidation(cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reviewduck.config.cache;
+
+import java.util.function.Consumer;
+
+/*
+    여러 애플리케이션 노드의 로컬 캐시에 무효화를 전파하고, 캐시 밖의 로컬 상태를 위한 도메인 이벤트도 함께 전달한다.
+    자신이 발행한 무효화와 이벤트는 구독자에게 다시 전달하지 않는다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    void publishEvent(DomainEvent event);
+
+    void subscribeEvent(Consumer<DomainEvent> listener);
+}
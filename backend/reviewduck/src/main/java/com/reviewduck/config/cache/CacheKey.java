@@ -0,0 +1,78 @@
+package com.reviewduck.config.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    문자열을 이어 붙이지 않고 대상 타입과 숫자 값으로 구분하는 캐시 키
+    페이지 번호와 크기는 long 하나에 나누어 담고, 정렬 기준 같은 열거형은 순서 값으로 담는다.
+    검색어처럼 숫자로 담을 수 없는 값만 문자열로 보관한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class CacheKey implements Serializable {
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    private final CacheKeyType type;
+    private final int variant;
+    private final long value;
+    private final String text;
+
+    public static CacheKey of(CacheKeyType type, long value) {
+        return new CacheKey(type, 0, value, null);
+    }
+
+    public static CacheKey of(CacheKeyType type, String text) {
+        return new CacheKey(type, 0, 0, Objects.requireNonNull(text));
+    }
+
+    public static CacheKey ofPage(CacheKeyType type, Enum<?> variant, int page, int size) {
+        return new CacheKey(type, variant.ordinal(), pack(page, size), null);
+    }
+
+    public static CacheKey ofPage(CacheKeyType type, String text, int page, int size) {
+        return new CacheKey(type, 0, pack(page, size), Objects.requireNonNull(text));
+    }
+
+    static CacheKey restore(CacheKeyType type, int variant, long value, String text) {
+        return new CacheKey(type, variant, value, text);
+    }
+
+    private static long pack(int page, int size) {
+        return ((long)page << Integer.SIZE) | (size & INT_MASK);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheKey)) {
+            return false;
+        }
+        CacheKey cacheKey = (CacheKey)o;
+        return type == cacheKey.type
+            && variant == cacheKey.variant
+            && value == cacheKey.value
+            && Objects.equals(text, cacheKey.text);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.ordinal();
+        result = 31 * result + variant;
+        result = 31 * result + Long.hashCode(value);
+        result = 31 * result + (text == null ? 0 : text.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return type + "[" + variant + "," + value + (text == null ? "" : "," + text) + "]";
+    }
+}
@@ -0,0 +1,85 @@
+package com.reviewduck.config.cache;
+
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+    노드 사이에서 주고받을 수 있도록 캐시 키를 타입 정보가 포함된 문자열로 바꾼다.
+    복원할 수 없는 타입의 키는 인코딩하지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheKeyCodec {
+
+    private static final String DELIMITER = ":";
+    private static final String LONG_KEY = "L";
+    private static final String INTEGER_KEY = "I";
+    private static final String STRING_KEY = "S";
+    private static final String TYPED_KEY = "K";
+    private static final int TYPED_KEY_PARTS = 4;
+
+    public static Optional<String> encode(Object key) {
+        if (key instanceof Long) {
+            return Optional.of(LONG_KEY + DELIMITER + key);
+        }
+        if (key instanceof Integer) {
+            return Optional.of(INTEGER_KEY + DELIMITER + key);
+        }
+        if (key instanceof String) {
+            return Optional.of(STRING_KEY + DELIMITER + key);
+        }
+        if (key instanceof CacheKey) {
+            return Optional.of(TYPED_KEY + DELIMITER + encodeTypedKey((CacheKey)key));
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<Object> decode(String encodedKey) {
+        int delimiterIndex = encodedKey.indexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            return Optional.empty();
+        }
+
+        String type = encodedKey.substring(0, delimiterIndex);
+        String value = encodedKey.substring(delimiterIndex + 1);
+        switch (type) {
+            case LONG_KEY:
+                return Optional.of(Long.valueOf(value));
+            case INTEGER_KEY:
+                return Optional.of(Integer.valueOf(value));
+            case STRING_KEY:
+                return Optional.of(value);
+            case TYPED_KEY:
+                return decodeTypedKey(value);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static String encodeTypedKey(CacheKey key) {
+        String encodedKey = key.getType() + DELIMITER + key.getVariant() + DELIMITER + key.getValue();
+        if (key.getText() == null) {
+            return encodedKey;
+        }
+        return encodedKey + DELIMITER + key.getText();
+    }
+
+    /*
+        검색어에는 구분자가 들어갈 수 있으므로 마지막 부분은 나누지 않는다.
+     */
+    private static Optional<Object> decodeTypedKey(String value) {
+        String[] parts = value.split(DELIMITER, TYPED_KEY_PARTS);
+        if (parts.length < TYPED_KEY_PARTS - 1) {
+            return Optional.empty();
+        }
+
+        try {
+            CacheKeyType type = CacheKeyType.valueOf(parts[0]);
+            String text = parts.length == TYPED_KEY_PARTS ? parts[3] : null;
+            return Optional.of(CacheKey.restore(type, Integer.parseInt(parts[1]), Long.parseLong(parts[2]), text));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reviewduck.config.cache;
+
+/*
+    캐시 키가 가리키는 대상. 같은 캐시를 쓰더라도 대상이 다르면 값이 같아도 다른 키가 된다.
+ */
+public enum CacheKeyType {
+
+    MEMBER,
+    MEMBER_SOCIAL_ID,
+    ADMIN_MEMBER,
+    MEMBER_PRINCIPAL,
+    ADMIN_PRINCIPAL,
+    TEMPLATE,
+    TEMPLATE_LIST,
+    TEMPLATE_SEARCH
+}
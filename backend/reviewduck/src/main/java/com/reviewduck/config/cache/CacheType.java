@@ -1,9 +1,14 @@
 package com.reviewduck.config.cache;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
 
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.AccessLevel;
@@ -14,19 +19,49 @@ import lombok.Getter;
 @Getter
 public enum CacheType {
 
-    MemberCache("memberCacheStore", 10 * 60, 150),
-    TemplateCache("templateCacheStore", 10 * 60, 300),
-    TemplatesCache("templatesCacheStore", 60, 100);
+    MemberCache("memberCacheStore", 10 * 60, 150, 100, 1000, true),
+    TemplateCache("templateCacheStore", 10 * 60, 300, 150, 1000, true),
+    TemplatesCache("templatesCacheStore", 60, 100, 50, 500, true),
+    MemberPrincipalCache("memberPrincipalCacheStore", 10 * 60, 1000, 500, 5000, false),
+    AdminPrincipalCache("adminPrincipalCacheStore", 30, 50, 50, 200, false);
+
+    private static final String CACHE_NAME_SUFFIX = "CacheStore";
 
     private final String cacheName;
     private final long duration;
     private final long maxSize;
+    private final long minSizeLimit;
+    private final long maxSizeLimit;
+
+    /*
+        인증 사용자 캐시는 모든 요청이 조회하므로 공유 저장소를 거치지 않고 로컬에만 두며, 무효화 전파로 맞춘다.
+     */
+    private final boolean shared;
+
+    /*
+        캐시 이름(memberCacheStore) 또는 접미사를 뺀 이름(member)으로 찾는다.
+     */
+    public static Optional<CacheType> findByName(String name) {
+        return Arrays.stream(values())
+            .filter(cacheType -> cacheType.cacheName.equals(name)
+                || cacheType.cacheName.equals(name + CACHE_NAME_SUFFIX))
+            .findAny();
+    }
 
     public CaffeineCache buildCache() {
         return new CaffeineCache(cacheName, Caffeine.newBuilder()
             .recordStats()
-            .expireAfterWrite(duration, TimeUnit.SECONDS)
+            .expireAfter(new TimeToLiveExpiry(Duration.ofSeconds(duration)))
             .maximumSize(maxSize)
             .build());
     }
+
+    /*
+        캐시 매니저의 캐시는 여러 겹으로 감싸져 있지만 네이티브 캐시는 항상 로컬 Caffeine 캐시다.
+     */
+    @SuppressWarnings("unchecked")
+    public Cache<Object, Object> getNativeCache(CacheManager cacheManager) {
+        org.springframework.cache.Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        return (Cache<Object, Object>)cache.getNativeCache();
+    }
 }
@@ -0,0 +1,59 @@
+package com.reviewduck.config.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+    공유 저장소에 담을 값을 직렬화한 뒤 압축한다.
+    직렬화할 수 없는 값이거나 클래스 구조가 바뀌어 복원할 수 없는 값은 비어 있는 결과를 반환한다.
+    공유 저장소의 값은 다른 노드가 쓴 데이터이므로, 복원할 때는 캐시 값에 쓰이는 클래스만 허용한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheValueSerializer {
+
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+        "maxdepth=20;maxrefs=100000;maxarray=100000;"
+            + "com.reviewduck.**;java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    public static Optional<byte[]> serialize(Object value) {
+        if (!(value instanceof Serializable)) {
+            return Optional.empty();
+        }
+
+        /*
+            직접 만든 Deflater 는 스트림을 닫아도 해제되지 않으므로 네이티브 메모리를 직접 해제한다.
+         */
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream output = new ObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            output.writeObject(value);
+        } catch (IOException e) {
+            return Optional.empty();
+        } finally {
+            deflater.end();
+        }
+        return Optional.of(bytes.toByteArray());
+    }
+
+    public static Optional<Object> deserialize(byte[] value) {
+        try (ObjectInputStream input = new ObjectInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(value)))) {
+            input.setObjectInputFilter(ALLOWED_CLASSES);
+            return Optional.ofNullable(input.readObject());
+        } catch (IOException | ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.reviewduck.config.cache;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ReflectionUtils;
+
+/*
+    메서드 파라미터에서 하나의 값을 골라 타입이 지정된 CacheKey 를 만든다.
+    파라미터는 이름(예: memberId)이나 객체 속성 경로(예: member.id)로 찾으며, 먼저 일치하는 경로를 사용한다.
+    메서드마다 찾은 파라미터 위치와 속성 경로의 getter 는 파라미터의 선언 타입으로 한 번만 계산해 둔다.
+ */
+public class CompactKeyGenerator implements KeyGenerator {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final String PATH_DELIMITER = ".";
+
+    private final CacheKeyType type;
+    private final List<String> parameterPaths;
+    private final Map<Method, ParameterPath> resolvedPaths = new ConcurrentHashMap<>();
+
+    public CompactKeyGenerator(CacheKeyType type, String... parameterPaths) {
+        this.type = type;
+        this.parameterPaths = List.of(parameterPaths);
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        ParameterPath parameterPath = resolvedPaths.computeIfAbsent(method, this::resolve);
+        Object value = parameterPath.read(params);
+
+        if (value instanceof Number) {
+            return CacheKey.of(type, ((Number)value).longValue());
+        }
+        if (value instanceof String) {
+            return CacheKey.of(type, (String)value);
+        }
+        throw new IllegalStateException("캐시 키로 사용할 수 없는 값입니다. type=" + type + ", method=" + method.getName());
+    }
+
+    private ParameterPath resolve(Method method) {
+        String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        if (parameterNames == null) {
+            throw new IllegalStateException("파라미터 이름을 알 수 없습니다. method=" + method.getName());
+        }
+
+        for (String path : parameterPaths) {
+            int delimiterIndex = path.indexOf(PATH_DELIMITER);
+            String parameterName = delimiterIndex < 0 ? path : path.substring(0, delimiterIndex);
+            String property = delimiterIndex < 0 ? null : path.substring(delimiterIndex + 1);
+
+            for (int index = 0; index < parameterNames.length; index++) {
+                if (parameterNames[index].equals(parameterName)) {
+                    return new ParameterPath(index, resolveGetters(method.getParameterTypes()[index], property));
+                }
+            }
+        }
+        throw new IllegalStateException("캐시 키로 사용할 파라미터가 없습니다. type=" + type + ", method=" + method.getName());
+    }
+
+    private List<Method> resolveGetters(Class<?> parameterType, String property) {
+        if (property == null) {
+            return List.of();
+        }
+
+        List<Method> getters = new ArrayList<>();
+        Class<?> propertyOwner = parameterType;
+        for (String propertyName : property.split(Pattern.quote(PATH_DELIMITER))) {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(propertyOwner, propertyName);
+            if (descriptor == null || descriptor.getReadMethod() == null) {
+                throw new IllegalStateException(
+                    "캐시 키로 사용할 속성이 없습니다. class=" + propertyOwner.getName() + ", property=" + propertyName);
+            }
+
+            Method getter = descriptor.getReadMethod();
+            ReflectionUtils.makeAccessible(getter);
+            getters.add(getter);
+            propertyOwner = getter.getReturnType();
+        }
+        return getters;
+    }
+
+    private static class ParameterPath {
+
+        private final int index;
+        private final List<Method> getters;
+
+        ParameterPath(int index, List<Method> getters) {
+            this.index = index;
+            this.getters = getters;
+        }
+
+        Object read(Object[] params) {
+            Object value = params[index];
+            for (Method getter : getters) {
+                if (value == null) {
+                    return null;
+                }
+                value = ReflectionUtils.invokeMethod(getter, value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.reviewduck.config.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    캐시 키로 표현할 수 없는 변경을 다른 노드에 알리는 이벤트
+    노드마다 메모리에 따로 만든 색인처럼 캐시 무효화만으로 맞출 수 없는 상태를 고치는 데 쓴다.
+    targetId 는 특정 대상이 없는 이벤트에서 null 이다.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+public class DomainEvent {
+
+    private final DomainEventType type;
+    private final Long targetId;
+
+    public static DomainEvent of(DomainEventType type, long targetId) {
+        return new DomainEvent(type, targetId);
+    }
+
+    public static DomainEvent of(DomainEventType type) {
+        return new DomainEvent(type, null);
+    }
+}
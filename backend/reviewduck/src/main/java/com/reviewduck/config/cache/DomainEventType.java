@@ -0,0 +1,21 @@
+package com.reviewduck.config.cache;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum DomainEventType {
+
+    TEMPLATE_SAVED,
+    TEMPLATE_UPDATED,
+    TEMPLATE_DELETED,
+    TEMPLATE_USED;
+
+    /*
+        새 버전 노드가 발행한 모르는 이벤트는 건너뛸 수 있도록 예외 대신 빈 값을 돌려준다.
+     */
+    public static Optional<DomainEventType> findByName(String name) {
+        return Arrays.stream(values())
+            .filter(type -> type.name().equals(name))
+            .findAny();
+    }
+}
@@ -0,0 +1,78 @@
+package com.reviewduck.config.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+import lombok.AllArgsConstructor;
+
+/*
+    로컬 캐시를 비울 때 다른 노드에도 같은 무효화를 발행하는 캐시
+ */
+@AllArgsConstructor
+public class InvalidationBroadcastingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        cacheInvalidationBus.publish(CacheInvalidation.evict(getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        cacheInvalidationBus.publish(CacheInvalidation.evict(getName(), key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        cacheInvalidationBus.publish(CacheInvalidation.clear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        cacheInvalidationBus.publish(CacheInvalidation.clear(getName()));
+        return invalidated;
+    }
+}
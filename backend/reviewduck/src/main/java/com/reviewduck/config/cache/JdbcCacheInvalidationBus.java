@@ -0,0 +1,222 @@
+package com.reviewduck.config.cache;
+
+import static com.reviewduck.common.util.TransactionUtils.*;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    cache_invalidation 테이블에 무효화를 기록하고, 각 노드가 주기적으로 새 기록을 읽어 로컬 캐시에 반영한다.
+    도메인 이벤트는 같은 테이블에 event_type 으로 구분해 기록하므로 무효화와 같은 순서로 전달된다.
+    트랜잭션 안에서 발행된 무효화는 커밋 이후에 기록해 다른 노드가 커밋 전 데이터를 다시 캐싱하지 않도록 한다.
+    id 는 커밋 순서가 아니라 insert 순서로 발급되므로, 읽은 기록 사이에 비어 있는 id 는 늦게 커밋될 수 있다.
+    비어 있는 id 는 gap-timeout 동안 기억해 두었다가 매번 다시 조회한다.
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final int POLL_LIMIT = 500;
+    private static final RowMapper<InvalidationRecord> RECORD_ROW_MAPPER = (rs, rowNum) -> new InvalidationRecord(
+        rs.getLong("id"),
+        rs.getString("node_id"),
+        rs.getString("cache_name"),
+        rs.getString("cache_key"),
+        rs.getString("event_type"),
+        rs.getObject("target_id", Long.class));
+    private static final String RECORD_COLUMNS = "id, node_id, cache_name, cache_key, event_type, target_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long retentionMillis;
+    private final long gapTimeoutMillis;
+    private final Map<Long, Long> gapDeadlines = new HashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<DomainEvent>> eventListeners = new CopyOnWriteArrayList<>();
+
+    private volatile long lastSeenId = -1;
+
+    public JdbcCacheInvalidationBus(DataSource dataSource, long retentionMillis, long gapTimeoutMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retentionMillis = retentionMillis;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        runAfterCommit(() -> insert(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publishEvent(DomainEvent event) {
+        runAfterCommit(() -> insert(event));
+    }
+
+    @Override
+    public void subscribeEvent(Consumer<DomainEvent> listener) {
+        eventListeners.add(listener);
+    }
+
+    /*
+        처음 실행될 때는 이전 기록을 건너뛰고 현재 위치부터 읽는다.
+        시작 직후의 로컬 캐시는 비어 있으므로 놓친 무효화가 없다.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-delay-millis:1000}")
+    public synchronized void poll() {
+        try {
+            if (lastSeenId < 0) {
+                lastSeenId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from cache_invalidation",
+                    Long.class);
+                return;
+            }
+
+            recheckGaps();
+            List<InvalidationRecord> records;
+            do {
+                records = findAfter(lastSeenId);
+                records.forEach(this::apply);
+            } while (records.size() == POLL_LIMIT);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 조회에 실패했습니다. message={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-delay-millis:600000}")
+    public void purge() {
+        try {
+            jdbcTemplate.update("delete from cache_invalidation where created_at < ?",
+                new Timestamp(System.currentTimeMillis() - retentionMillis));
+        } catch (DataAccessException e) {
+            log.warn("지난 캐시 무효화 기록 삭제에 실패했습니다. message={}", e.getMessage());
+        }
+    }
+
+    private void insert(CacheInvalidation invalidation) {
+        String cacheKey = invalidation.isClear() ? null : CacheKeyCodec.encode(invalidation.getKey()).orElse(null);
+
+        try {
+            jdbcTemplate.update("insert into cache_invalidation (node_id, cache_name, cache_key, created_at) "
+                    + "values (?, ?, ?, ?)",
+                nodeId, invalidation.getCacheName(), cacheKey, new Timestamp(System.currentTimeMillis()));
+        } catch (DataAccessException e) {
+            log.error("캐시 무효화 발행에 실패했습니다. cacheName={}, key={}", invalidation.getCacheName(),
+                invalidation.getKey(), e);
+        }
+    }
+
+    private void insert(DomainEvent event) {
+        try {
+            jdbcTemplate.update("insert into cache_invalidation (node_id, event_type, target_id, created_at) "
+                    + "values (?, ?, ?, ?)",
+                nodeId, event.getType().name(), event.getTargetId(), new Timestamp(System.currentTimeMillis()));
+        } catch (DataAccessException e) {
+            log.error("도메인 이벤트 발행에 실패했습니다. type={}, targetId={}", event.getType(), event.getTargetId(), e);
+        }
+    }
+
+    private List<InvalidationRecord> findAfter(long id) {
+        return jdbcTemplate.query(
+            "select " + RECORD_COLUMNS + " from cache_invalidation where id > ? order by id limit ?",
+            RECORD_ROW_MAPPER, id, POLL_LIMIT);
+    }
+
+    /*
+        비어 있던 id 중 가장 작은 것부터 마지막으로 읽은 id 까지 다시 읽어, 그사이 커밋된 기록만 반영한다.
+     */
+    private void recheckGaps() {
+        if (gapDeadlines.isEmpty()) {
+            return;
+        }
+
+        long fromId = gapDeadlines.keySet().stream()
+            .mapToLong(Long::longValue)
+            .min()
+            .orElseThrow();
+        jdbcTemplate.query(
+                "select " + RECORD_COLUMNS + " from cache_invalidation where id >= ? and id < ?",
+                RECORD_ROW_MAPPER, fromId, lastSeenId).stream()
+            .filter(record -> gapDeadlines.remove(record.getId()) != null)
+            .forEach(this::notifyListeners);
+
+        long now = System.currentTimeMillis();
+        gapDeadlines.values().removeIf(deadline -> deadline < now);
+    }
+
+    /*
+        기록이 지워져 크게 비어 있는 경우에도 기억할 id 가 한 번에 POLL_LIMIT 개를 넘지 않게 한다.
+     */
+    private void apply(InvalidationRecord record) {
+        long deadline = System.currentTimeMillis() + gapTimeoutMillis;
+        for (long gapId = Math.max(lastSeenId + 1, record.getId() - POLL_LIMIT); gapId < record.getId(); gapId++) {
+            gapDeadlines.put(gapId, deadline);
+        }
+        lastSeenId = record.getId();
+        notifyListeners(record);
+    }
+
+    private void notifyListeners(InvalidationRecord record) {
+        if (nodeId.equals(record.getNodeId())) {
+            return;
+        }
+
+        if (record.isEvent()) {
+            DomainEventType.findByName(record.getEventType())
+                .map(type -> new DomainEvent(type, record.getTargetId()))
+                .ifPresent(event -> eventListeners.forEach(listener -> listener.accept(event)));
+            return;
+        }
+
+        CacheInvalidation invalidation = toInvalidation(record);
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    /*
+        복원할 수 없는 타입의 키는 null 로 기록되며, 다른 노드에서는 캐시 전체를 비운다.
+     */
+    private CacheInvalidation toInvalidation(InvalidationRecord record) {
+        String cacheName = record.getCacheName();
+        if (record.getCacheKey() == null) {
+            return CacheInvalidation.clear(cacheName);
+        }
+
+        return CacheKeyCodec.decode(record.getCacheKey())
+            .map(key -> CacheInvalidation.evict(cacheName, key))
+            .orElseGet(() -> CacheInvalidation.clear(cacheName));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class InvalidationRecord {
+
+        private final long id;
+        private final String nodeId;
+        private final String cacheName;
+        private final String cacheKey;
+        private final String eventType;
+        private final Long targetId;
+
+        boolean isEvent() {
+            return eventType != null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.reviewduck.config.cache;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/*
+    shared_cache 테이블을 2차 캐시로 사용한다.
+    만료된 값은 조회에서 제외하고 주기적으로 삭제한다.
+ */
+public class JdbcSharedCacheStore implements SharedCacheStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSharedCacheStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public Optional<SharedCacheEntry> get(String cacheName, String key) {
+        Timestamp now = now();
+        List<SharedCacheEntry> entries = jdbcTemplate.query(
+            "select cache_value, expires_at from shared_cache where cache_name = ? and cache_key = ? and expires_at > ?",
+            (rs, rowNum) -> new SharedCacheEntry(rs.getBytes("cache_value"),
+                Duration.ofMillis(rs.getTimestamp("expires_at").getTime() - now.getTime())),
+            cacheName, key, now);
+        return entries.stream().findFirst();
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration timeToLive) {
+        Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + timeToLive.toMillis());
+        jdbcTemplate.update("insert into shared_cache (cache_name, cache_key, cache_value, expires_at) "
+                + "values (?, ?, ?, ?) "
+                + "on duplicate key update cache_value = values(cache_value), expires_at = values(expires_at)",
+            cacheName, key, value, expiresAt);
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        jdbcTemplate.update("delete from shared_cache where cache_name = ? and cache_key = ?", cacheName, key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        jdbcTemplate.update("delete from shared_cache where cache_name = ?", cacheName);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.shared.purge-delay-millis:600000}")
+    public void purgeExpired() {
+        jdbcTemplate.update("delete from shared_cache where expires_at <= ?", now());
+    }
+
+    private Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
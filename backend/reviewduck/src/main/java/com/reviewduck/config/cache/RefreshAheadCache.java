@@ -0,0 +1,142 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    만료까지 refreshBefore 이하로 남은 값을 조회하면 기존 값을 바로 돌려주고 백그라운드에서 다시 불러온다.
+    같은 키의 갱신은 한 번에 하나만 실행하며, 갱신 중 무효화된 값은 다시 저장하지 않는다.
+    값을 불러오는 방법을 알 수 있는 get(key, valueLoader) 조회에만 적용된다.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final long refreshBeforeNanos;
+    private final Executor executor;
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("unchecked")
+    public RefreshAheadCache(Cache delegate, Duration refreshBefore, Executor executor) {
+        this.delegate = delegate;
+        this.localCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)delegate.getNativeCache();
+        this.refreshBeforeNanos = refreshBefore.toNanos();
+        this.executor = executor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+
+        if (!loaded.get() && value != null && isRefreshRequired(key)) {
+            refresh(key, value, valueLoader);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /*
+        만료까지 남은 시간으로 판단하므로, 공유 저장소에서 가져와 이미 만료가 가까운 값도 갱신 대상이 된다.
+     */
+    private boolean isRefreshRequired(Object key) {
+        return localCache.policy().expireVariably()
+            .map(expiration -> expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS))
+            .filter(remaining -> remaining.isPresent() && remaining.getAsLong() <= refreshBeforeNanos)
+            .isPresent();
+    }
+
+    private <T> void refresh(Object key, T currentValue, Callable<T> valueLoader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    reload(key, currentValue, valueLoader);
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private <T> void reload(Object key, T currentValue, Callable<T> valueLoader) {
+        try {
+            T newValue = valueLoader.call();
+            Map<Object, Object> localValues = localCache.asMap();
+            if (newValue != null && localValues.replace(key, currentValue, newValue)) {
+                delegate.put(key, newValue);
+            }
+        } catch (Exception e) {
+            log.warn("캐시 값을 미리 갱신하지 못했습니다. cacheName={}, message={}", getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    공유 저장소에 저장된 값과 만료까지 남은 시간
+ */
+@AllArgsConstructor
+@Getter
+public class SharedCacheEntry {
+
+    private final byte[] value;
+    private final Duration timeToLive;
+}
@@ -0,0 +1,18 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/*
+    여러 노드가 함께 사용하는 2차 캐시 저장소
+ */
+public interface SharedCacheStore {
+
+    Optional<SharedCacheEntry> get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration timeToLive);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,33 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/*
+    저장하거나 덮어쓴 값은 정해진 시간 뒤에 만료되고, 조회는 만료 시각을 바꾸지 않는다.
+    공유 저장소에서 가져온 값처럼 만료 시각이 이미 정해진 값은 캐시의 expireVariably 정책으로 직접 지정한다.
+ */
+public class TimeToLiveExpiry implements Expiry<Object, Object> {
+
+    private final long timeToLiveNanos;
+
+    public TimeToLiveExpiry(Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
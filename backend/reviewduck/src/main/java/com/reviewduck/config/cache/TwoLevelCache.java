@@ -0,0 +1,224 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    로컬 캐시(L1)에 없는 값은 공유 저장소(L2)에서 찾아 L1 을 채운다.
+    L2 장애는 캐시 미스로 취급해 요청 처리에 영향을 주지 않는다.
+    같은 키의 동시 미스는 로컬 캐시의 로더 하나로 합쳐 L2 조회와 원본 조회를 한 번만 실행한다.
+    트랜잭션 안에서 무효화하면 커밋 이후에도 한 번 더 L2 를 비워 커밋 전 데이터가 다시 저장되지 않도록 한다.
+    L2 에서 가져온 값은 L2 에 남은 만료 시간까지만 L1 에 둔다. 노드를 옮겨 다니며 만료가 계속 늦춰지지 않게 하기 위해서다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final Cache localCache;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeLocalCache;
+    private final SharedCacheStore sharedCacheStore;
+    private final Duration timeToLive;
+
+    @SuppressWarnings("unchecked")
+    public TwoLevelCache(Cache localCache, SharedCacheStore sharedCacheStore, Duration timeToLive) {
+        this.localCache = localCache;
+        this.nativeLocalCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)localCache.getNativeCache();
+        this.sharedCacheStore = sharedCacheStore;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper localValue = localCache.get(key);
+        if (localValue != null) {
+            return localValue;
+        }
+
+        return getShared(key)
+            .map(sharedValue -> {
+                putLocal(key, sharedValue);
+                return new SimpleValueWrapper(sharedValue.getValue());
+            })
+            .orElse(null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper == null ? null : valueWrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시된 값의 타입이 올바르지 않습니다. type=" + type.getName());
+        }
+        return (T)value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicReference<SharedValue> loadedSharedValue = new AtomicReference<>();
+        T value = localCache.get(key, () -> {
+            Optional<SharedValue> sharedValue = getShared(key);
+            if (sharedValue.isPresent()) {
+                loadedSharedValue.set(sharedValue.get());
+                return (T)sharedValue.get().getValue();
+            }
+
+            T loadedValue = valueLoader.call();
+            putShared(key, loadedValue);
+            return loadedValue;
+        });
+
+        if (loadedSharedValue.get() != null) {
+            setLocalTimeToLive(key, loadedSharedValue.get().getTimeToLive());
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+        putShared(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = localCache.putIfAbsent(key, value);
+        if (existingValue == null) {
+            putShared(key, value);
+        }
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        evictShared(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = localCache.evictIfPresent(key);
+        evictShared(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        clearShared();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = localCache.invalidate();
+        clearShared();
+        return invalidated;
+    }
+
+    private void putLocal(Object key, SharedValue sharedValue) {
+        nativeLocalCache.policy().expireVariably().ifPresentOrElse(
+            expiration -> expiration.put(key, sharedValue.getValue(), sharedValue.getTimeToLive().toNanos(),
+                TimeUnit.NANOSECONDS),
+            () -> localCache.put(key, sharedValue.getValue()));
+    }
+
+    private void setLocalTimeToLive(Object key, Duration timeToLive) {
+        nativeLocalCache.policy().expireVariably()
+            .ifPresent(expiration -> expiration.setExpiresAfter(key, timeToLive.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private Optional<SharedValue> getShared(Object key) {
+        Optional<String> sharedKey = CacheKeyCodec.encode(key);
+        if (sharedKey.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return sharedCacheStore.get(getName(), sharedKey.get())
+                .flatMap(entry -> CacheValueSerializer.deserialize(entry.getValue())
+                    .map(value -> new SharedValue(value, entry.getTimeToLive())));
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 조회에 실패했습니다. cacheName={}, message={}", getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void putShared(Object key, Object value) {
+        Optional<String> sharedKey = CacheKeyCodec.encode(key);
+        Optional<byte[]> sharedValue = CacheValueSerializer.serialize(value);
+        if (sharedKey.isEmpty() || sharedValue.isEmpty()) {
+            return;
+        }
+
+        runShared(() -> sharedCacheStore.put(getName(), sharedKey.get(), sharedValue.get(), timeToLive));
+    }
+
+    private void evictShared(Object key) {
+        Optional<String> sharedKey = CacheKeyCodec.encode(key);
+        if (sharedKey.isEmpty()) {
+            clearShared();
+            return;
+        }
+
+        Runnable eviction = () -> sharedCacheStore.evict(getName(), sharedKey.get());
+        runShared(eviction);
+        runSharedAfterCommit(eviction);
+    }
+
+    private void clearShared() {
+        Runnable clear = () -> sharedCacheStore.clear(getName());
+        runShared(clear);
+        runSharedAfterCommit(clear);
+    }
+
+    private void runSharedAfterCommit(Runnable operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runShared(operation);
+            }
+        });
+    }
+
+    private void runShared(Runnable operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 갱신에 실패했습니다. cacheName={}, message={}", getName(), e.getMessage());
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class SharedValue {
+
+        private final Object value;
+        private final Duration timeToLive;
+    }
+}
@@ -2,29 +2,77 @@ package com.reviewduck.config.datasource;
 
 import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration(proxyBeanMethods = false)
 public class CustomDatasourceConfig {
 
+    @Bean
+    public DataSourceSelector dataSourceSelector(
+        final ReplicaDataSources replicaDataSources,
+        @Value("${spring.datasource.source.weight:1}") final int sourceWeight
+    ) {
+        Map<String, Integer> weights = new LinkedHashMap<>(replicaDataSources.getWeights());
+        weights.put(SOURCE, sourceWeight);
+
+        return DataSourceSelector.weighted(weights, SOURCE);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(
+        final ReplicaDataSources replicaDataSources,
+        final DataSourceSelector dataSourceSelector,
+        @Value("${spring.datasource.replica.health.max-failures:2}") final int maxFailures,
+        @Value("${spring.datasource.replica.health.probe-timeout-millis:2000}") final long probeTimeoutMillis
+    ) {
+        return new ReplicaHealthChecker(replicaDataSources.getDataSources(), dataSourceSelector, maxFailures,
+            Duration.ofMillis(probeTimeoutMillis));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier(SOURCE) final DataSource sourceDataSource,
+        final ReplicaDataSources replicaDataSources,
+        @Value("${spring.datasource.replica.lag.max-millis:1000}") final long maxLagMillis
+    ) {
+        return new ReplicaLagMonitor(sourceDataSource, replicaDataSources.getDataSources(), maxLagMillis);
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(
+        @Value("${spring.datasource.replica.read-your-writes-millis:3000}") final long windowMillis
+    ) {
+        return new ReadYourWritesWindow(windowMillis);
+    }
+
     @Bean
     public DataSource routingDataSource(
         @Qualifier(SOURCE) final DataSource sourceDataSource,
-        @Qualifier(REPLICA) final DataSource replicaDataSource
+        final ReplicaDataSources replicaDataSources,
+        final DataSourceSelector dataSourceSelector,
+        final ReplicaLagMonitor replicaLagMonitor,
+        final ReadYourWritesWindow readYourWritesWindow,
+        final MeterRegistry meterRegistry
     ) {
-        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(dataSourceSelector,
+            replicaLagMonitor, readYourWritesWindow, meterRegistry);
 
-        HashMap<Object, Object> dataSourceMap = new HashMap<>();
+        HashMap<Object, Object> dataSourceMap = new HashMap<>(replicaDataSources.getDataSources());
         dataSourceMap.put(SOURCE, sourceDataSource);
-        dataSourceMap.put(REPLICA, replicaDataSource);
 
         routingDataSource.setTargetDataSources(dataSourceMap);
         routingDataSource.setDefaultTargetDataSource(sourceDataSource);
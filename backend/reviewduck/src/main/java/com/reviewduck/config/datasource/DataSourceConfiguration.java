@@ -1,21 +1,30 @@
 package com.reviewduck.config.datasource;
 
+import java.util.List;
+
 import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 @Configuration
 public class DataSourceConfiguration {
 
-    static final String SOURCE = "SOURCE";
-    static final String REPLICA = "REPLICA";
+    public static final String SOURCE = "SOURCE";
+    static final String REPLICAS_PREFIX = "spring.datasource.replicas";
+
+    private static final String LEGACY_REPLICA_PREFIX = "spring.datasource.replica.hikari";
+    private static final String LEGACY_REPLICA_NAME = "replica";
+    private static final int LEGACY_REPLICA_WEIGHT = 2;
 
     @Bean
     @FlywayDataSource
@@ -28,11 +37,39 @@ public class DataSourceConfiguration {
     }
 
     @Bean
-    @Qualifier(REPLICA)
-    @ConfigurationProperties(prefix = "spring.datasource.replica.hikari")
-    public DataSource replicaDataSource() {
-        return DataSourceBuilder.create()
-            .type(HikariDataSource.class)
-            .build();
+    public ReplicaDataSources replicaDataSources(Environment environment) {
+        Binder binder = Binder.get(environment);
+        List<ReplicaProperties> replicas = binder.bind(REPLICAS_PREFIX, Bindable.listOf(ReplicaProperties.class))
+            .orElse(List.of());
+
+        ReplicaDataSources replicaDataSources = new ReplicaDataSources();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaProperties replica = replicas.get(i);
+            String name = replica.getName() == null ? "replica" + i : replica.getName();
+            HikariDataSource dataSource = binder.bind(REPLICAS_PREFIX + "[" + i + "].hikari",
+                    Bindable.ofInstance(new HikariDataSource()))
+                .orElseThrow(() -> new IllegalStateException("replica 커넥션 풀 설정이 없습니다. name=" + name));
+            if (dataSource.getPoolName() == null) {
+                dataSource.setPoolName(name);
+            }
+
+            replicaDataSources.add(name, dataSource, replica.getWeight());
+        }
+
+        if (replicas.isEmpty()) {
+            addLegacyReplica(binder, replicaDataSources);
+        }
+        return replicaDataSources;
+    }
+
+    /*
+        spring.datasource.replicas 가 없으면 기존 단일 replica 설정을 기존 가중치(replica 2 : source 1)로 사용한다.
+     */
+    private void addLegacyReplica(Binder binder, ReplicaDataSources replicaDataSources) {
+        binder.bind(LEGACY_REPLICA_PREFIX, Bindable.ofInstance(new HikariDataSource()))
+            .ifBound(dataSource -> {
+                dataSource.setPoolName(LEGACY_REPLICA_NAME);
+                replicaDataSources.add(LEGACY_REPLICA_NAME, dataSource, LEGACY_REPLICA_WEIGHT);
+            });
     }
 }
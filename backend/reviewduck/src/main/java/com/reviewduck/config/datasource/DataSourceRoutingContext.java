@@ -0,0 +1,25 @@
+package com.reviewduck.config.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+    요청을 보낸 회원을 라우팅 데이터소스에 전달하기 위한 스레드 로컬 저장소
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Long> MEMBER_ID = new ThreadLocal<>();
+
+    public static void setMemberId(long memberId) {
+        MEMBER_ID.set(memberId);
+    }
+
+    public static Long getMemberId() {
+        return MEMBER_ID.get();
+    }
+
+    public static void clear() {
+        MEMBER_ID.remove();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reviewduck.config.datasource;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/*
+    요청이 끝나면 라우팅 컨텍스트를 비워 다음 요청이 같은 스레드에서 이전 회원으로 라우팅되지 않게 한다.
+    비동기 요청은 첫 dispatch 에서 afterCompletion 이 불리지 않으므로 비동기 처리가 시작될 때도 비운다.
+ */
+public class DataSourceRoutingContextInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) {
+        DataSourceRoutingContext.clear();
+    }
+}
@@ -1,24 +1,104 @@
 package com.reviewduck.config.datasource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
+/*
+    가중치만큼 반복되는 순서표를 미리 만들어 두고 원자적 카운터로 순회한다.
+    선택 경로는 락과 객체 생성 없이 동작하며, 제외된 데이터소스는 건너뛴다.
+ */
 public class DataSourceSelector {
 
-    private final List<String> dataSources;
+    private final String[] dataSources;
+    private final String fallback;
+    private final Set<String> ejected = ConcurrentHashMap.newKeySet();
     private final AtomicInteger counter = new AtomicInteger();
 
     public DataSourceSelector(String... dataSources) {
-        this.dataSources = Arrays.stream(dataSources)
-            .collect(Collectors.toUnmodifiableList());
+        this(dataSources, dataSources[0]);
+    }
+
+    private DataSourceSelector(String[] dataSources, String fallback) {
+        if (dataSources.length == 0) {
+            throw new IllegalArgumentException("선택할 데이터소스가 없습니다.");
+        }
+        this.dataSources = dataSources;
+        this.fallback = fallback;
+    }
+
+    /*
+        smooth weighted round-robin 으로 순서표를 만들어 같은 데이터소스가 몰려서 선택되지 않도록 한다.
+        모든 데이터소스가 제외되면 fallback 을 반환한다.
+     */
+    public static DataSourceSelector weighted(Map<String, Integer> weights, String fallback) {
+        Map<String, Integer> positiveWeights = new LinkedHashMap<>();
+        weights.forEach((dataSource, weight) -> {
+            if (weight > 0) {
+                positiveWeights.put(dataSource, weight);
+            }
+        });
+        if (positiveWeights.isEmpty()) {
+            return new DataSourceSelector(new String[] {fallback}, fallback);
+        }
+
+        int totalWeight = positiveWeights.values().stream()
+            .mapToInt(Integer::intValue)
+            .sum();
+        Map<String, Integer> currentWeights = new LinkedHashMap<>();
+        positiveWeights.keySet().forEach(dataSource -> currentWeights.put(dataSource, 0));
+
+        List<String> schedule = new ArrayList<>(totalWeight);
+        for (int i = 0; i < totalWeight; i++) {
+            positiveWeights.forEach((dataSource, weight) -> currentWeights.merge(dataSource, weight, Integer::sum));
+            String selected = currentWeights.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow()
+                .getKey();
+            currentWeights.merge(selected, -totalWeight, Integer::sum);
+            schedule.add(selected);
+        }
+
+        return new DataSourceSelector(schedule.toArray(String[]::new), fallback);
     }
 
     public String getOne() {
-        if (counter.get() >= dataSources.size()) {
-            counter.set(0);
+        int start = (counter.getAndIncrement() & Integer.MAX_VALUE) % dataSources.length;
+        if (ejected.isEmpty()) {
+            return dataSources[start];
         }
-        return dataSources.get(counter.getAndIncrement());
+
+        for (int i = 0; i < dataSources.length; i++) {
+            String dataSource = dataSources[(start + i) % dataSources.length];
+            if (!ejected.contains(dataSource)) {
+                return dataSource;
+            }
+        }
+        return fallback;
+    }
+
+    public void eject(String dataSource) {
+        ejected.add(dataSource);
+    }
+
+    public void readmit(String dataSource) {
+        ejected.remove(dataSource);
+    }
+
+    public boolean isEjected(String dataSource) {
+        return ejected.contains(dataSource);
+    }
+
+    public Set<String> getDataSources() {
+        Set<String> selectable = new HashSet<>(Arrays.asList(dataSources));
+        selectable.add(fallback);
+        return Collections.unmodifiableSet(selectable);
     }
 }
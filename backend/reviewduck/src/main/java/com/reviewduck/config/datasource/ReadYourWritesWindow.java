@@ -0,0 +1,31 @@
+package com.reviewduck.config.datasource;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/*
+    최근 쓰기를 수행한 회원을 일정 시간 동안 기억해 해당 회원의 읽기를 source 로 보낸다.
+ */
+public class ReadYourWritesWindow {
+
+    private static final long MAX_MEMBERS = 10_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(long windowMillis) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(windowMillis))
+            .maximumSize(MAX_MEMBERS)
+            .build();
+    }
+
+    public void recordWrite(long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean hasRecentWrite(long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.reviewduck.config.datasource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+    이름으로 구분되는 replica 데이터소스와 읽기 가중치 목록
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+    private final Map<String, Integer> weights = new LinkedHashMap<>();
+
+    public void add(String name, DataSource dataSource, int weight) {
+        if (dataSources.containsKey(name) || DataSourceConfiguration.SOURCE.equals(name)) {
+            throw new IllegalArgumentException("replica 이름이 중복되었습니다. name=" + name);
+        }
+        dataSources.put(name, dataSource);
+        weights.put(name, weight);
+    }
+
+    public Map<String, DataSource> getDataSources() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    public Map<String, Integer> getWeights() {
+        return Collections.unmodifiableMap(weights);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().stream()
+            .filter(HikariDataSource.class::isInstance)
+            .map(HikariDataSource.class::cast)
+            .forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,113 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    replica 커넥션을 주기적으로 검증해 연속으로 실패하면 선택 대상에서 제외하고,
+    다시 검증에 성공하면 선택 대상으로 되돌린다.
+    커넥션을 얻는 데 풀의 connectionTimeout 만큼 걸릴 수 있으므로 검증은 replica 마다 전용 스레드에서 하고,
+    제한 시간 안에 끝나지 않으면 실패로 센다. 끝나지 않은 검증이 있는 replica 는 새로 검증하지 않는다.
+ */
+@Slf4j
+public class ReplicaHealthChecker implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final Map<String, DataSource> replicaDataSources;
+    private final DataSourceSelector dataSourceSelector;
+    private final int maxFailures;
+    private final long probeTimeoutNanos;
+    private final ExecutorService probeExecutor;
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+    private final Map<String, Future<Boolean>> probes = new ConcurrentHashMap<>();
+
+    public ReplicaHealthChecker(Map<String, DataSource> replicaDataSources, DataSourceSelector dataSourceSelector,
+        int maxFailures, Duration probeTimeout) {
+        this.replicaDataSources = replicaDataSources;
+        this.dataSourceSelector = dataSourceSelector;
+        this.maxFailures = maxFailures;
+        this.probeTimeoutNanos = probeTimeout.toNanos();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-health-");
+        threadFactory.setDaemon(true);
+        this.probeExecutor = Executors.newFixedThreadPool(Math.max(1, replicaDataSources.size()), threadFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.health.check-delay-millis:5000}")
+    public void check() {
+        replicaDataSources.forEach((replica, dataSource) ->
+            probes.computeIfAbsent(replica, name -> probeExecutor.submit(() -> isValid(dataSource))));
+
+        long deadline = System.nanoTime() + probeTimeoutNanos;
+        replicaDataSources.keySet()
+            .forEach(replica -> check(replica, awaitProbe(replica, deadline)));
+    }
+
+    @Override
+    public void close() {
+        probeExecutor.shutdownNow();
+    }
+
+    private boolean awaitProbe(String replica, long deadline) {
+        Future<Boolean> probe = probes.get(replica);
+        try {
+            boolean valid = probe.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            probes.remove(replica, probe);
+            return valid;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            probes.remove(replica, probe);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void check(String replica, boolean valid) {
+        if (valid) {
+            failures.remove(replica);
+            readmit(replica);
+            return;
+        }
+
+        int failureCount = failures.merge(replica, 1, Integer::sum);
+        if (failureCount >= maxFailures && !dataSourceSelector.isEjected(replica)) {
+            log.warn("replica 를 선택 대상에서 제외합니다. replica={}, failures={}", replica, failureCount);
+            dataSourceSelector.eject(replica);
+        }
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void readmit(String replica) {
+        if (dataSourceSelector.isEjected(replica)) {
+            log.info("replica 를 선택 대상으로 되돌립니다. replica={}", replica);
+            dataSourceSelector.readmit(replica);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    source 에 기록한 heartbeat 가 각 replica 에 반영된 시점으로 복제 지연을 측정한다.
+    replica 가 마지막 heartbeat 를 따라잡지 못했다면 replica 의 heartbeat 이후 흐른 시간을 지연으로 보며,
+    이는 실제 지연보다 최대 측정 주기만큼 크게 잡히므로 source 로 우회하는 쪽으로 안전하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+    private static final long HEARTBEAT_ID = 1L;
+
+    private final JdbcTemplate sourceJdbcTemplate;
+    private final Map<String, JdbcTemplate> replicaJdbcTemplates = new ConcurrentHashMap<>();
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    private final long maxLagMillis;
+
+    private volatile long lastBeatMillis = -1;
+
+    public ReplicaLagMonitor(DataSource sourceDataSource, Map<String, DataSource> replicaDataSources,
+        long maxLagMillis) {
+        this.sourceJdbcTemplate = new JdbcTemplate(sourceDataSource);
+        this.maxLagMillis = maxLagMillis;
+
+        replicaDataSources.forEach((name, dataSource) -> {
+            replicaJdbcTemplates.put(name, new JdbcTemplate(dataSource));
+            lagMillis.put(name, UNKNOWN_LAG);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag.probe-delay-millis:1000}")
+    public void probe() {
+        replicaJdbcTemplates.forEach(this::measureLag);
+        beat();
+    }
+
+    public boolean isLagging(String replica) {
+        return lagMillis.getOrDefault(replica, UNKNOWN_LAG) > maxLagMillis;
+    }
+
+    public long getLagMillis(String replica) {
+        return lagMillis.getOrDefault(replica, UNKNOWN_LAG);
+    }
+
+    private void measureLag(String replica, JdbcTemplate replicaJdbcTemplate) {
+        try {
+            Timestamp replicaBeatAt = replicaJdbcTemplate.queryForObject(
+                "select beat_at from replication_heartbeat where id = ?", Timestamp.class, HEARTBEAT_ID);
+            lagMillis.put(replica, calculateLag(replicaBeatAt.getTime(), System.currentTimeMillis()));
+        } catch (DataAccessException | NullPointerException e) {
+            log.warn("replica 지연 측정에 실패했습니다. replica={}, message={}", replica, e.getMessage());
+            lagMillis.put(replica, UNKNOWN_LAG);
+        }
+    }
+
+    private long calculateLag(long replicaBeatMillis, long nowMillis) {
+        if (lastBeatMillis < 0 || replicaBeatMillis >= lastBeatMillis) {
+            return 0;
+        }
+        return Math.max(0, nowMillis - replicaBeatMillis);
+    }
+
+    private void beat() {
+        long beatMillis = System.currentTimeMillis();
+        try {
+            sourceJdbcTemplate.update("update replication_heartbeat set beat_at = ? where id = ?",
+                new Timestamp(beatMillis), HEARTBEAT_ID);
+            lastBeatMillis = beatMillis;
+        } catch (DataAccessException e) {
+            log.warn("heartbeat 기록에 실패했습니다. message={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reviewduck.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+    spring.datasource.replicas[*] 의 이름과 읽기 가중치
+    커넥션 풀 설정은 spring.datasource.replicas[*].hikari 아래에 둔다.
+ */
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private String name;
+    private int weight = 1;
+}
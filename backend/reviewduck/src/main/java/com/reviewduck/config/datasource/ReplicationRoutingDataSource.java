@@ -2,17 +2,102 @@ package com.reviewduck.config.datasource;
 
 import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+    읽기 전용 트랜잭션은 가중치에 따라 source 와 replica 들에 분산하되,
+    선택된 replica 의 복제 지연이 임계치를 넘었거나 요청한 회원이 최근에 쓰기를 했다면 source 에서 읽는다.
+ */
 public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
 
-    private final DataSourceSelector dataSourceSelector = new DataSourceSelector(REPLICA, REPLICA, SOURCE);
+    private static final String ROUTING_METRIC = "datasource.routing";
+
+    private final DataSourceSelector dataSourceSelector;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    private final Counter writeCounter;
+    private final Map<String, Counter> balancedCounters;
+    private final Counter lagCounter;
+    private final Counter recentWriteCounter;
+
+    public ReplicationRoutingDataSource(DataSourceSelector dataSourceSelector, ReplicaLagMonitor replicaLagMonitor,
+        ReadYourWritesWindow readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.dataSourceSelector = dataSourceSelector;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+
+        this.writeCounter = createCounter(meterRegistry, SOURCE, "write");
+        this.balancedCounters = dataSourceSelector.getDataSources().stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                dataSource -> createCounter(meterRegistry, dataSource, "balanced")));
+        this.lagCounter = createCounter(meterRegistry, SOURCE, "replica_lag");
+        this.recentWriteCounter = createCounter(meterRegistry, SOURCE, "recent_write");
+    }
 
     @Override
     protected Object determineCurrentLookupKey() {
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        Long memberId = DataSourceRoutingContext.getMemberId();
+
+        if (!isReadOnly) {
+            recordWrite(memberId);
+            writeCounter.increment();
+            return SOURCE;
+        }
+
+        if (memberId != null && readYourWritesWindow.hasRecentWrite(memberId)) {
+            recentWriteCounter.increment();
+            return SOURCE;
+        }
+
+        return balance();
+    }
+
+    private Object balance() {
+        String dataSource = dataSourceSelector.getOne();
+        if (!SOURCE.equals(dataSource) && replicaLagMonitor.isLagging(dataSource)) {
+            lagCounter.increment();
+            return SOURCE;
+        }
+
+        balancedCounters.get(dataSource).increment();
+        return dataSource;
+    }
+
+    /*
+        쓰기 시작 시점과 커밋 시점 모두 기록해 커밋 이후부터 온전한 시간 동안 source 에서 읽도록 한다.
+     */
+    private void recordWrite(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+
+        readYourWritesWindow.recordWrite(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesWindow.recordWrite(memberId);
+                }
+            });
+        }
+    }
 
-        return isReadOnly ? dataSourceSelector.getOne() : SOURCE;
+    private Counter createCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder(ROUTING_METRIC)
+            .description("읽기/쓰기 데이터소스 라우팅 결정 횟수")
+            .tag("target", target.toLowerCase())
+            .tag("reason", reason)
+            .register(meterRegistry);
     }
 }
@@ -0,0 +1,155 @@
+package com.reviewduck.config.http;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+    외부 API 호출에 쓰는 HTTP 클라이언트
+    JDK HttpClient 가 호스트별로 keep-alive 커넥션을 재사용하고, 요청 수는 route(scheme, host, port)마다 제한한다.
+    제한을 넘은 요청은 기다리지 않고 RejectedExecutionException 으로 실패한다.
+    멱등 메서드는 연결 실패나 502, 503, 504 응답일 때 지수 백오프에 지터를 더한 만큼 기다렸다가 다시 보낸다.
+    응답을 기다리다 시간이 초과된 요청은 이미 서버에 도착했을 수 있고 다시 보내면 지연만 늘어나므로 재시도하지 않는다.
+    시도마다 걸린 시간을 호스트, 메서드, 상태별로 http.client.outbound 타이머에 기록한다.
+ */
+public class OutboundHttpClient {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration readTimeout;
+    private final int maxRequestsPerRoute;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Map<String, Semaphore> routePermits = new ConcurrentHashMap<>();
+
+    public OutboundHttpClient(MeterRegistry meterRegistry, Executor executor, Duration connectTimeout,
+        Duration readTimeout, int maxRequestsPerRoute, int maxRetries, long retryBackoffMillis) {
+        this.httpClient = HttpClient.newBuilder()
+            .executor(executor)
+            .connectTimeout(connectTimeout)
+            .build();
+        this.meterRegistry = meterRegistry;
+        this.readTimeout = readTimeout;
+        this.maxRequestsPerRoute = maxRequestsPerRoute;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /*
+        응답 제한 시간이 들어간 요청 빌더를 만든다.
+     */
+    public HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(readTimeout);
+    }
+
+    public CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        URI uri = request.uri();
+        Semaphore permits = routePermits.computeIfAbsent(routeOf(uri),
+            ignored -> new Semaphore(maxRequestsPerRoute));
+        if (!permits.tryAcquire()) {
+            meterRegistry.counter("http.client.outbound.rejected", "host", uri.getHost()).increment();
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException(uri.getHost() + " 에 보내는 요청이 너무 많습니다."));
+        }
+
+        return sendWithRetry(request, 0)
+            .whenComplete((response, exception) -> permits.release());
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendWithRetry(HttpRequest request, int attempt) {
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .handle((response, exception) -> {
+                Throwable cause = unwrap(exception);
+                record(request, response, System.nanoTime() - startedAt);
+                if (attempt < maxRetries && isRetryable(request, response, cause)) {
+                    return retryLater(request, attempt + 1);
+                }
+                if (cause != null) {
+                    return CompletableFuture.<HttpResponse<String>>failedFuture(cause);
+                }
+                return CompletableFuture.completedFuture(response);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    /*
+        시도할 때마다 대기 시간의 상한을 두 배로 늘리고, 여러 요청이 한꺼번에 다시 몰리지 않도록 0 부터 상한 사이에서 고른다.
+     */
+    private CompletableFuture<HttpResponse<String>> retryLater(HttpRequest request, int attempt) {
+        meterRegistry.counter("http.client.outbound.retries", "host", request.uri().getHost()).increment();
+
+        long delayMillis = ThreadLocalRandom.current().nextLong(Math.max(1, retryBackoffMillis << (attempt - 1))) + 1;
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {
+        }, delayedExecutor).thenCompose(ignored -> sendWithRetry(request, attempt));
+    }
+
+    private boolean isRetryable(HttpRequest request, HttpResponse<String> response, Throwable cause) {
+        if (!IDEMPOTENT_METHODS.contains(request.method())) {
+            return false;
+        }
+        if (cause == null) {
+            return RETRYABLE_STATUSES.contains(response.statusCode());
+        }
+        if (cause instanceof HttpConnectTimeoutException || cause instanceof ConnectException) {
+            return true;
+        }
+        return cause instanceof IOException && !(cause instanceof HttpTimeoutException);
+    }
+
+    private void record(HttpRequest request, HttpResponse<String> response, long elapsedNanos) {
+        Timer.builder("http.client.outbound")
+            .tag("host", request.uri().getHost())
+            .tag("method", request.method())
+            .tag("status", response == null ? IO_ERROR : String.valueOf(response.statusCode()))
+            .description("외부 API 요청 한 번에 걸린 시간")
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Throwable unwrap(Throwable exception) {
+        if (exception instanceof CompletionException && exception.getCause() != null) {
+            return exception.getCause();
+        }
+        return exception;
+    }
+
+    /*
+        기본 포트를 생략한 URI 와 명시한 URI 를 같은 route 로 센다.
+     */
+    static String routeOf(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + portOf(uri);
+    }
+
+    private static int portOf(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+}
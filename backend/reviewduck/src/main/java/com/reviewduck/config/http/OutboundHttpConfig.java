@@ -0,0 +1,61 @@
+package com.reviewduck.config.http;
+
+import java.time.Duration;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+    JDK HttpClient 는 유휴 커넥션을 유지할 시간을 시스템 프로퍼티(jdk.httpclient.keepalive.timeout)로만 받고,
+    JVM 에서 처음 HttpClient 를 만들 때 한 번 읽는다. 빈을 만드는 도중에 바꾸면 먼저 만들어진 클라이언트가 있는지에 따라
+    적용 여부가 달라지므로, java -jar 로 실행해도 적용되도록 애플리케이션을 시작하기 전에 main 에서 기본값을 넣는다.
+    실행 옵션(-Djdk.httpclient.keepalive.timeout=...)으로 지정하면 그 값을 그대로 쓴다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    private static final String KEEP_ALIVE_TIMEOUT_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final String DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = "30";
+
+    /*
+        응답 처리와 그 뒤에 이어지는 작업은 이 스레드에서 실행된다.
+        애플리케이션 기본 TaskExecutor 를 대체하지 않도록 빈으로 등록하지 않는다.
+     */
+    private final ThreadPoolTaskExecutor outboundHttpExecutor;
+
+    public OutboundHttpConfig(@Value("${outbound-http.pool-size:8}") int poolSize) {
+        this.outboundHttpExecutor = new ThreadPoolTaskExecutor();
+        outboundHttpExecutor.setCorePoolSize(poolSize);
+        outboundHttpExecutor.setMaxPoolSize(poolSize);
+        outboundHttpExecutor.setThreadNamePrefix("outbound-http-");
+        outboundHttpExecutor.initialize();
+    }
+
+    public static void applyDefaultKeepAliveTimeout() {
+        if (System.getProperty(KEEP_ALIVE_TIMEOUT_PROPERTY) == null) {
+            System.setProperty(KEEP_ALIVE_TIMEOUT_PROPERTY, DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS);
+        }
+    }
+
+    @Bean
+    public OutboundHttpClient outboundHttpClient(MeterRegistry meterRegistry,
+        @Value("${outbound-http.connect-timeout-millis:3000}") long connectTimeoutMillis,
+        @Value("${outbound-http.read-timeout-millis:5000}") long readTimeoutMillis,
+        @Value("${outbound-http.max-requests-per-route:50}") int maxRequestsPerRoute,
+        @Value("${outbound-http.max-retries:2}") int maxRetries,
+        @Value("${outbound-http.retry-backoff-millis:100}") long retryBackoffMillis) {
+        return new OutboundHttpClient(meterRegistry, outboundHttpExecutor, Duration.ofMillis(connectTimeoutMillis),
+            Duration.ofMillis(readTimeoutMillis), maxRequestsPerRoute, maxRetries, retryBackoffMillis);
+    }
+
+    @PreDestroy
+    public void shutdownOutboundHttpExecutor() {
+        outboundHttpExecutor.shutdown();
+    }
+}
@@ -0,0 +1,18 @@
+package com.reviewduck.config.logging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    요청 한 건의 접근 로그. 요청 본문은 남기지 않고, path 는 실제 URI 대신 매핑된 템플릿을 남긴다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccessLog {
+
+    private final long timestamp;
+    private final String method;
+    private final String path;
+    private final int status;
+    private final long latencyMillis;
+}
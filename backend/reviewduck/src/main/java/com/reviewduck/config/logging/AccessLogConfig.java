@@ -0,0 +1,32 @@
+package com.reviewduck.config.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AccessLogConfig {
+
+    /*
+        로그 설정에서 접근 로그만 따로 다른 파일로 보낼 수 있도록 이름을 정해 둔 로거로 출력한다.
+     */
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger("ACCESS");
+
+    @Bean(destroyMethod = "close")
+    public AccessLogWriter accessLogWriter(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+        @Value("${logging.access.buffer-size:8192}") int bufferSize,
+        @Value("${logging.access.batch-size:256}") int batchSize) {
+        return new AccessLogWriter(meterRegistry, objectMapper, ACCESS_LOGGER::info, bufferSize, batchSize);
+    }
+
+    @Bean
+    public AccessLogInterceptor accessLogInterceptor(AccessLogWriter accessLogWriter) {
+        return new AccessLogInterceptor(accessLogWriter);
+    }
+}
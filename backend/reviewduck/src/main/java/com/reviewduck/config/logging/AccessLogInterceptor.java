@@ -0,0 +1,74 @@
+package com.reviewduck.config.logging;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/*
+    요청이 끝나면 method, path 템플릿, 상태 코드, 걸린 시간을 AccessLogWriter 에 넘긴다.
+    비동기 요청은 결과를 받아 다시 dispatch 될 때 afterCompletion 이 불리므로, 시작 시각은 처음 들어왔을 때 한 번만 기록한다.
+    처리되지 않은 예외나 sendError 로 끝난 요청은 원래 요청에서 이미 남겼으므로 /error 로 다시 dispatch 된 것은 남기지 않는다.
+ */
+public class AccessLogInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = AccessLogInterceptor.class.getName() + ".startNanos";
+    private static final String UNMATCHED_PATH = "UNMATCHED";
+
+    private final AccessLogWriter accessLogWriter;
+
+    public AccessLogInterceptor(AccessLogWriter accessLogWriter) {
+        this.accessLogWriter = accessLogWriter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isErrorDispatch(request)) {
+            return true;
+        }
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) == null) {
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) {
+        Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (startNanos == null || isErrorDispatch(request)) {
+            return;
+        }
+
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long)startNanos);
+        accessLogWriter.write(new AccessLog(System.currentTimeMillis(), request.getMethod(), getPath(request),
+            getStatus(response, ex), latencyMillis));
+    }
+
+    private boolean isErrorDispatch(HttpServletRequest request) {
+        return request.getDispatcherType() == DispatcherType.ERROR;
+    }
+
+    private String getPath(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMATCHED_PATH;
+        }
+        return pattern.toString();
+    }
+
+    /*
+        ControllerAdvice 가 처리하지 못한 예외는 응답 상태가 아직 정해지지 않았으므로 500 으로 남긴다.
+     */
+    private int getStatus(HttpServletResponse response, Exception ex) {
+        if (ex != null && response.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,95 @@
+package com.reviewduck.config.logging;
+
+import static com.reviewduck.common.util.Logging.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+    접근 로그를 크기가 정해진 큐에 넣고, 전용 스레드 하나가 모아서 JSON 한 줄씩 출력한다.
+    요청 스레드는 큐에 넣기만 하고 기다리지 않는다. 큐가 가득 차면 로그를 버리고 버린 수를 센다.
+ */
+public class AccessLogWriter {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 3000;
+
+    private final BlockingQueue<AccessLog> queue;
+    private final ObjectWriter objectWriter;
+    private final Consumer<String> sink;
+    private final int batchSize;
+    private final Counter droppedCounter;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    public AccessLogWriter(MeterRegistry meterRegistry, ObjectMapper objectMapper, Consumer<String> sink,
+        int bufferSize, int batchSize) {
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.objectWriter = objectMapper.writerFor(AccessLog.class);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.droppedCounter = meterRegistry.counter("access.log.dropped");
+        meterRegistry.gauge("access.log.queue.size", queue, BlockingQueue::size);
+
+        this.writerThread = new Thread(this::run, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void write(AccessLog accessLog) {
+        if (!running || !queue.offer(accessLog)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /*
+        남은 로그를 모두 출력할 때까지 기다린다. 제한 시간 안에 끝나지 않으면 남은 로그는 버린다.
+     */
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<AccessLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AccessLog first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::print);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void print(AccessLog accessLog) {
+        try {
+            sink.accept(objectWriter.writeValueAsString(accessLog));
+        } catch (JsonProcessingException | RuntimeException e) {
+            error("접근 로그를 출력하지 못했습니다. " + e);
+        }
+    }
+}
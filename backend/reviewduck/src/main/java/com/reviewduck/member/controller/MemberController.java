@@ -1,7 +1,5 @@
 package com.reviewduck.member.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import javax.validation.Valid;
 
 import org.springframework.cache.annotation.CacheEvict;
@@ -36,9 +34,6 @@ public class MemberController {
     @ResponseStatus(HttpStatus.OK)
     public MemberResponse findMemberInfo(@AuthenticationPrincipal MemberDto member,
         @PathVariable String socialId) {
-
-        info("/api/members/" + socialId, "GET", "");
-
         return memberService.findMemberInfo(socialId, member.getId());
     }
 
@@ -46,9 +41,6 @@ public class MemberController {
     @GetMapping("/me")
     @ResponseStatus(HttpStatus.OK)
     public MemberResponse findMyInfo(@AuthenticationPrincipal MemberDto member) {
-
-        info("/api/members/me", "GET", "");
-
         return memberService.findMyInfo(member.getId());
     }
 
@@ -56,14 +48,11 @@ public class MemberController {
     @PutMapping("/me")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Caching(evict = {
-        @CacheEvict(value = "memberCacheStore", key = "#member.id"),
-        @CacheEvict(value = "memberCacheStore", key = "#member.socialId")
+        @CacheEvict(value = "memberCacheStore", keyGenerator = "memberKeyGenerator"),
+        @CacheEvict(value = "memberCacheStore", keyGenerator = "memberSocialIdKeyGenerator")
     })
     public void updateNickname(@AuthenticationPrincipal MemberDto member, @Valid @RequestBody
         MemberUpdateNicknameRequest request) {
-
-        info("/api/members/me", "PUT", request.toString());
-
         memberService.updateNickname(member.getId(), request.getNickname());
     }
 }
@@ -1,5 +1,7 @@
 package com.reviewduck.member.dto;
 
+import java.io.Serializable;
+
 import com.reviewduck.member.domain.Member;
 
 import lombok.AccessLevel;
@@ -8,7 +10,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class MemberDto {
+public class MemberDto implements Serializable {
 
     private static final MemberDto MEMBER_NOT_LOGIN = new MemberDto(-1, "not-login");
 
@@ -1,5 +1,7 @@
 package com.reviewduck.member.dto.response;
 
+import java.io.Serializable;
+
 import com.reviewduck.member.domain.Member;
 
 import lombok.AccessLevel;
@@ -8,7 +10,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class MemberResponse {
+public class MemberResponse implements Serializable {
 
     private boolean isMine;
     private String socialId;
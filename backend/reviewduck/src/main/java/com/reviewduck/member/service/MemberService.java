@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.member.dto.response.MemberResponse;
 import com.reviewduck.member.repository.MemberRepository;
 import com.reviewduck.review.domain.ReviewForm;
@@ -22,20 +23,28 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
 
-    @Cacheable(value = "memberCacheStore", key = "#socialId")
+    @Cacheable(value = "memberCacheStore", keyGenerator = "memberSocialIdKeyGenerator", sync = true)
     public MemberResponse findMemberInfo(String socialId, long myMemberId) {
         Member member = findBySocialId(socialId);
         return MemberResponse.of(member, myMemberId);
     }
 
-    @Cacheable(value = "memberCacheStore", key = "#memberId")
+    @Cacheable(value = "memberCacheStore", keyGenerator = "memberKeyGenerator", sync = true)
     public MemberResponse findMyInfo(long memberId) {
         Member member = findById(memberId);
         return MemberResponse.from(member);
     }
 
+    /*
+        토큰을 가진 모든 요청이 인증 사용자를 조회하므로 DB 대신 전용 캐시에서 찾는다.
+     */
+    @Cacheable(value = "memberPrincipalCacheStore", keyGenerator = "memberPrincipalKeyGenerator", sync = true)
+    public MemberDto findPrincipal(long memberId) {
+        return MemberDto.from(findById(memberId));
+    }
+
     @Transactional
-    @CacheEvict(value = "memberCacheStore", key = "#memberId")
+    @CacheEvict(value = "memberCacheStore", keyGenerator = "memberKeyGenerator")
     public void updateNickname(long memberId, String nickname) {
         Member member = findById(memberId);
         member.updateNickname(nickname);
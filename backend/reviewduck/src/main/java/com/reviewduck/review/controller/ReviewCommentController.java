@@ -13,7 +13,6 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 
-import static com.reviewduck.common.util.Logging.info;
 import static com.reviewduck.common.vo.PageConstant.DEFAULT_PAGE;
 import static com.reviewduck.common.vo.PageConstant.DEFAULT_SIZE;
 
@@ -32,8 +31,6 @@ public class ReviewCommentController {
             @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
             @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size
     ) {
-        info("/api/reviews/" + reviewId + "comments" + "&page=" + page + "&size=" + size, "GET", "");
-
         return reviewCommentService.findAll(reviewId, page - 1, size);
     }
 
@@ -42,9 +39,6 @@ public class ReviewCommentController {
     @ResponseStatus(HttpStatus.CREATED)
     public void createComment(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId,
                               @RequestBody @Valid ReviewCommentCreateRequest request) {
-
-        info("/api/reviews/" + reviewId + "/comments", "POST", request.toString());
-
         reviewCommentService.save(member.getId(), reviewId, request);
     }
 
@@ -54,9 +48,6 @@ public class ReviewCommentController {
     public void updateComment(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId,
                               @PathVariable long commentId,
                               @RequestBody @Valid ReviewCommentUpdateRequest request) {
-
-        info("/api/reviews/" + reviewId + "/comments/" + commentId, "PUT", request.toString());
-
         reviewCommentService.update(member.getId(), commentId, request);
     }
 
@@ -65,9 +56,6 @@ public class ReviewCommentController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteComment(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId,
                               @PathVariable long commentId) {
-
-        info("/api/reviews/" + reviewId + "/comments/" + commentId, "DELETE", "");
-
         reviewCommentService.delete(member.getId(), commentId);
     }
 }
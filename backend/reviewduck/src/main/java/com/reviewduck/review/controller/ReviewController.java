@@ -1,6 +1,5 @@
 package com.reviewduck.review.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
@@ -24,6 +23,7 @@ import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewEditResponse;
 import com.reviewduck.review.dto.controller.response.ReviewLikesResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineCursorReviewsResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.service.ReviewService;
 
@@ -41,9 +41,6 @@ public class ReviewController {
     @GetMapping("/{reviewId}")
     @ResponseStatus(HttpStatus.OK)
     public ReviewEditResponse findById(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId) {
-
-        info("/api/reviews/" + reviewId, "GET", "");
-
         return reviewService.findById(reviewId);
     }
 
@@ -55,9 +52,6 @@ public class ReviewController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size
     ) {
-
-        info("/api/reviews?member=" + socialId + "&page=" + page + "&size=" + size, "GET", "");
-
         return reviewService.findAllBySocialId(socialId, member.getId(), page - 1, size);
     }
 
@@ -68,20 +62,24 @@ public class ReviewController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "latest") String sort) {
-
-        info("/api/reviews/public?page=" + page + "&size=" + size + "&sort=" + sort, "GET", "");
-
         return reviewService.findAllPublic(page - 1, size, sort, member.getId());
     }
 
+    @Operation(summary = "비밀글이 아닌 회고 답변을 커서 기반으로 조회한다.")
+    @GetMapping(value = "/public", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public TimelineCursorReviewsResponse findAllPublicByCursor(@AuthenticationPrincipal MemberDto member,
+        @RequestParam(required = false, defaultValue = "") String cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false, defaultValue = "latest") String sort) {
+        return reviewService.findAllPublicByCursor(cursor, size, sort, member.getId());
+    }
+
     @Operation(summary = "회고 답변을 수정한다.")
     @PutMapping("/{reviewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void update(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId,
         @RequestBody @Valid ReviewUpdateRequest request) {
-
-        info("/api/reviews/" + reviewId, "PUT", request.toString());
-
         reviewService.update(member.getId(), reviewId, request);
     }
 
@@ -89,9 +87,6 @@ public class ReviewController {
     @PostMapping("/{reviewId}/likes")
     @ResponseStatus(HttpStatus.OK)
     public ReviewLikesResponse likes(@PathVariable long reviewId, @RequestBody @Valid ReviewLikesRequest request) {
-
-        info("/api/reviews/" + reviewId + "/likes", "POST", request.toString());
-
         return reviewService.increaseLikes(reviewId, request.getLikes());
     }
 
@@ -99,9 +94,6 @@ public class ReviewController {
     @DeleteMapping("/{reviewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId) {
-
-        info("/api/reviews/" + reviewId, "DELETE", "");
-
         reviewService.delete(member.getId(), reviewId);
     }
 }
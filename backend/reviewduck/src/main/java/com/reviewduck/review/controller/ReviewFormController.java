@@ -1,7 +1,6 @@
 
 package com.reviewduck.review.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
@@ -46,9 +45,6 @@ public class ReviewFormController {
     @ResponseStatus(HttpStatus.CREATED)
     public ReviewFormCodeResponse createReviewForm(@AuthenticationPrincipal MemberDto member,
         @RequestBody @Valid ReviewFormCreateRequest request) {
-
-        info("/api/review-forms", "POST", request.toString());
-
         return reviewFormService.save(member.getId(), request);
     }
 
@@ -57,9 +53,6 @@ public class ReviewFormController {
     @ResponseStatus(HttpStatus.CREATED)
     public void createReview(@AuthenticationPrincipal MemberDto member, @PathVariable String reviewFormCode,
         @RequestBody @Valid ReviewCreateRequest request) {
-
-        info("/api/review-forms/" + reviewFormCode, "POST", request.toString());
-
         reviewService.save(member.getId(), reviewFormCode, request);
     }
 
@@ -68,9 +61,6 @@ public class ReviewFormController {
     @ResponseStatus(HttpStatus.OK)
     public ReviewFormResponse findReviewForm(@AuthenticationPrincipal MemberDto member,
         @PathVariable String reviewFormCode) {
-
-        info("/api/review-forms/" + reviewFormCode, "GET", "");
-
         return reviewFormService.findByCode(reviewFormCode, member.getId());
     }
 
@@ -81,9 +71,6 @@ public class ReviewFormController {
         @RequestParam(value = "member") String socialId,
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
-
-        info("/api/review-forms?member=" + socialId + "page=" + page + " size=" + size, "GET", "");
-
         return reviewFormService.findBySocialId(socialId, page - 1, size, member);
     }
 
@@ -95,9 +82,6 @@ public class ReviewFormController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "list") String displayType) {
-
-        info("/api/review-forms/" + reviewFormCode + "/reviews?displayType=" + displayType, "GET", "");
-
         return reviewService.findAllByCode(reviewFormCode, page - 1, size, displayType, member.getId());
     }
 
@@ -107,9 +91,6 @@ public class ReviewFormController {
     public ReviewFormCodeResponse updateReviewForm(@AuthenticationPrincipal MemberDto member,
         @PathVariable String reviewFormCode,
         @RequestBody @Valid ReviewFormUpdateRequest request) {
-
-        info("/api/review-forms/" + reviewFormCode, "PUT", request.toString());
-
         return reviewFormService.update(member.getId(), reviewFormCode, request);
     }
 
@@ -117,9 +98,6 @@ public class ReviewFormController {
     @DeleteMapping("/{reviewFormCode}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteReviewForm(@AuthenticationPrincipal MemberDto member, @PathVariable String reviewFormCode) {
-
-        info("/api/review-forms/" + reviewFormCode, "DELETE", "");
-
         reviewFormService.deleteByCode(member.getId(), reviewFormCode);
     }
 }
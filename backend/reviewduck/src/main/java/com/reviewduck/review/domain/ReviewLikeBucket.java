@@ -0,0 +1,17 @@
+package com.reviewduck.review.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 시간 동안 회고가 받은 좋아요 수
+ * hour: epoch 이후 경과한 시간 수
+ */
+@AllArgsConstructor
+@Getter
+public class ReviewLikeBucket {
+
+    private final long reviewId;
+    private final long hour;
+    private final int count;
+}
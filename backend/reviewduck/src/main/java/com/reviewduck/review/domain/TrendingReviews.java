@@ -0,0 +1,140 @@
+package com.reviewduck.review.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * 시간 감쇠 점수 순으로 정렬된 공개 회고 인기 순위
+ * 좋아요 한 개는 발생한 시간 구간 h 에 2^(h / halfLife) 만큼의 가중치를 가진다.
+ * 모든 회고의 점수가 같은 비율로 감쇠하므로 시간이 지나도 점수를 다시 계산할 필요가 없고,
+ * 가중치가 overflow 되지 않도록 점수는 log2 값으로 저장한다.
+ * DB 에 아직 저장하지 않은 시간별 좋아요 수는 따로 모아 두었다가 drainChanges 로 꺼내 간다.
+ */
+public class TrendingReviews {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final double halfLifeHours;
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Integer>> changes = new HashMap<>();
+
+    public TrendingReviews(Duration halfLife) {
+        this.halfLifeHours = (double)halfLife.toMillis() / Duration.ofHours(1).toMillis();
+    }
+
+    /*
+        DB 에 저장된 좋아요 수를 불러온다. 이미 저장된 값이므로 변경 내역에 남기지 않는다.
+     */
+    public synchronized void load(List<ReviewLikeBucket> buckets) {
+        buckets.forEach(bucket -> like(bucket.getReviewId(), bucket.getHour(), bucket.getCount()));
+    }
+
+    public synchronized void record(long reviewId, long hour, int likeCount) {
+        if (like(reviewId, hour, likeCount)) {
+            changes.computeIfAbsent(reviewId, id -> new HashMap<>()).merge(hour, likeCount, Integer::sum);
+        }
+    }
+
+    public synchronized void recordAll(List<ReviewLikeBucket> buckets) {
+        buckets.forEach(bucket -> record(bucket.getReviewId(), bucket.getHour(), bucket.getCount()));
+    }
+
+    public synchronized void remove(long reviewId) {
+        Entry entry = entries.remove(reviewId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    public synchronized List<ReviewLikeBucket> getChanges() {
+        List<ReviewLikeBucket> buckets = new ArrayList<>();
+        changes.forEach((reviewId, counts) -> counts.forEach((hour, count) ->
+            buckets.add(new ReviewLikeBucket(reviewId, hour, count))));
+        return buckets;
+    }
+
+    public synchronized List<ReviewLikeBucket> drainChanges() {
+        List<ReviewLikeBucket> buckets = getChanges();
+        changes.clear();
+        return buckets;
+    }
+
+    /*
+        저장에 실패한 변경 내역을 되돌린다. 점수는 이미 반영되어 있으므로 변경 내역에만 다시 더한다.
+     */
+    public synchronized void restoreChanges(List<ReviewLikeBucket> buckets) {
+        buckets.forEach(bucket -> changes.computeIfAbsent(bucket.getReviewId(), id -> new HashMap<>())
+            .merge(bucket.getHour(), bucket.getCount(), Integer::sum));
+    }
+
+    public boolean contains(long reviewId) {
+        return entries.containsKey(reviewId);
+    }
+
+    public List<Long> findReviewIds(long offset, int size) {
+        return ranking.stream()
+            .skip(offset)
+            .limit(size)
+            .map(entry -> entry.reviewId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean like(long reviewId, long hour, int likeCount) {
+        if (likeCount <= 0) {
+            return false;
+        }
+
+        double weight = toLogWeight(likeCount, hour);
+        Entry entry = entries.get(reviewId);
+        Entry liked = new Entry(reviewId, entry == null ? weight : logSum(entry.score, weight));
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+        ranking.add(liked);
+        entries.put(reviewId, liked);
+        return true;
+    }
+
+    private double toLogWeight(int likeCount, long hour) {
+        return Math.log(likeCount) / LN_2 + hour / halfLifeHours;
+    }
+
+    // log2(2^a + 2^b)
+    private double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        return max + Math.log1p(Math.pow(2, min - max)) / LN_2;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final long reviewId;
+        private final double score;
+
+        private Entry(long reviewId, double score) {
+            this.reviewId = reviewId;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = Double.compare(other.score, score);
+            if (compared != 0) {
+                return compared;
+            }
+            return Long.compare(other.reviewId, reviewId);
+        }
+    }
+}
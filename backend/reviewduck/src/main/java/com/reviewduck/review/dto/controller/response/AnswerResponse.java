@@ -1,6 +1,7 @@
 package com.reviewduck.review.dto.controller.response;
 
 import com.reviewduck.review.domain.Answer;
+import com.reviewduck.review.dto.service.ReviewSheetAnswerDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,4 +17,8 @@ public class AnswerResponse {
     public static AnswerResponse from(Answer answer) {
         return new AnswerResponse(answer.getId(), answer.getValue());
     }
+
+    public static AnswerResponse from(ReviewSheetAnswerDto answer) {
+        return new AnswerResponse(answer.getAnswerId(), answer.getAnswerValue());
+    }
 }
@@ -1,6 +1,7 @@
 package com.reviewduck.review.dto.controller.response;
 
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.dto.service.ReviewSheetDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,4 +24,13 @@ public class CreatorResponse {
             member.getProfileUrl()
         );
     }
+
+    public static CreatorResponse from(ReviewSheetDto review) {
+        return new CreatorResponse(
+            Long.parseLong(review.getSocialId()),
+            review.getNickname(),
+            review.getSocialNickname(),
+            review.getProfileUrl()
+        );
+    }
 }
@@ -28,4 +28,8 @@ public class ReviewContentResponse {
         }
         return new ReviewContentResponse(ReviewFormQuestionResponse.from(question), AnswerResponse.from(answer));
     }
+
+    public static ReviewContentResponse of(ReviewFormQuestion question, AnswerResponse answer) {
+        return new ReviewContentResponse(ReviewFormQuestionResponse.from(question), answer);
+    }
 }
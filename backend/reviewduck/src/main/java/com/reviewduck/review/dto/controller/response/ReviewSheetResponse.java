@@ -2,8 +2,13 @@ package com.reviewduck.review.dto.controller.response;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewFormQuestion;
+import com.reviewduck.review.dto.service.ReviewSheetAnswerDto;
+import com.reviewduck.review.dto.service.ReviewSheetDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -35,6 +40,30 @@ public class ReviewSheetResponse extends ReviewAbstractResponse {
         );
     }
 
+    /*
+        엔티티를 거치지 않고 프로젝션으로 읽은 회고와 답변으로 응답을 만든다.
+        답변이 없는 질문은 엔티티 경로와 동일하게 answer 를 null 로 채운다.
+     */
+    public static ReviewSheetResponse of(long memberId, ReviewSheetDto review, List<ReviewFormQuestion> questions,
+        List<ReviewSheetAnswerDto> answers) {
+        Map<Long, AnswerResponse> answerMap = answers.stream()
+            .collect(Collectors.toUnmodifiableMap(ReviewSheetAnswerDto::getQuestionId, AnswerResponse::from));
+
+        List<ReviewContentResponse> contents = questions.stream()
+            .map(question -> ReviewContentResponse.of(question, answerMap.get(question.getId())))
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewSheetResponse(
+            review.getId(),
+            review.getTitle(),
+            Timestamp.valueOf(review.getUpdatedAt()).getTime(),
+            review.getLikes(),
+            review.getMemberId() == memberId,
+            CreatorResponse.from(review),
+            contents
+        );
+    }
+
     public boolean getIsCreator() {
         return isCreator;
     }
@@ -27,6 +27,12 @@ public class ReviewsOfReviewFormResponse {
         return new ReviewsOfReviewFormResponse(reviews.getTotalElements(), reviews.isLast(), reviewResponses);
     }
 
+    public static ReviewsOfReviewFormResponse from(Page<ReviewSheetResponse> reviews) {
+        List<ReviewAbstractResponse> reviewResponses = List.copyOf(reviews.getContent());
+
+        return new ReviewsOfReviewFormResponse(reviews.getTotalElements(), reviews.isLast(), reviewResponses);
+    }
+
     public boolean getIsLastPage() {
         return isLastPage;
     }
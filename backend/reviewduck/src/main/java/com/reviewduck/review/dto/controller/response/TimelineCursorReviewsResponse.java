@@ -0,0 +1,36 @@
+package com.reviewduck.review.dto.controller.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import com.reviewduck.review.domain.Review;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TimelineCursorReviewsResponse {
+
+    private boolean isLastPage;
+    private String nextCursor;
+    private List<ReviewResponse> reviews;
+
+    public static TimelineCursorReviewsResponse of(Slice<Review> reviews, String nextCursor, long memberId) {
+        List<ReviewResponse> reviewResponses = reviews.getContent().stream()
+            .map(review -> ReviewResponse.of(memberId, review))
+            .collect(Collectors.toUnmodifiableList());
+
+        return new TimelineCursorReviewsResponse(!reviews.hasNext(), nextCursor, reviewResponses);
+    }
+
+    public boolean getIsLastPage() {
+        return isLastPage;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.reviewduck.review.dto.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewSheetAnswerDto {
+
+    private final long reviewId;
+    private final long questionId;
+    private final long answerId;
+    private final String answerValue;
+}
@@ -0,0 +1,21 @@
+package com.reviewduck.review.dto.service;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewSheetDto {
+
+    private final long id;
+    private final String title;
+    private final LocalDateTime updatedAt;
+    private final int likes;
+    private final long memberId;
+    private final String socialId;
+    private final String nickname;
+    private final String socialNickname;
+    private final String profileUrl;
+}
@@ -0,0 +1,60 @@
+package com.reviewduck.review.repository;
+
+import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.reviewduck.review.domain.ReviewLikeBucket;
+
+/*
+    review_like_bucket 테이블에 회고의 시간별 좋아요 수를 저장한다.
+    여러 노드가 같은 구간을 저장할 수 있으므로 덮어쓰지 않고 더한다.
+    다른 노드가 방금 저장한 값까지 읽어야 하므로 source 에서 읽고 쓴다.
+ */
+@Repository
+public class ReviewLikeBucketRepository {
+
+    private static final RowMapper<ReviewLikeBucket> BUCKET_ROW_MAPPER = (rs, rowNum) ->
+        new ReviewLikeBucket(rs.getLong("review_id"), rs.getLong("bucket_hour"), rs.getInt("like_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewLikeBucketRepository(@Qualifier(SOURCE) DataSource sourceDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(sourceDataSource);
+    }
+
+    public void addAll(List<ReviewLikeBucket> buckets) {
+        jdbcTemplate.batchUpdate("insert into review_like_bucket (review_id, bucket_hour, like_count) "
+                + "values (?, ?, ?) "
+                + "on duplicate key update like_count = like_count + values(like_count)",
+            buckets, buckets.size(), (ps, bucket) -> {
+                ps.setLong(1, bucket.getReviewId());
+                ps.setLong(2, bucket.getHour());
+                ps.setInt(3, bucket.getCount());
+            });
+    }
+
+    public List<ReviewLikeBucket> findAllPublicAfter(long hour) {
+        return jdbcTemplate.query("select b.review_id, b.bucket_hour, b.like_count from review_like_bucket b "
+                + "join review r on r.id = b.review_id "
+                + "where b.bucket_hour > ? and r.is_private = false",
+            BUCKET_ROW_MAPPER, hour);
+    }
+
+    public List<ReviewLikeBucket> findAllByReviewIdAfter(long reviewId, long hour) {
+        return jdbcTemplate.query("select review_id, bucket_hour, like_count from review_like_bucket "
+                + "where review_id = ? and bucket_hour > ?",
+            BUCKET_ROW_MAPPER, reviewId, hour);
+    }
+
+    public void deleteAllBefore(long hour) {
+        jdbcTemplate.update("delete from review_like_bucket where bucket_hour <= ?", hour);
+    }
+}
@@ -1,9 +1,13 @@
 package com.reviewduck.review.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
@@ -11,6 +15,8 @@ import org.springframework.data.repository.Repository;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.service.ReviewSheetAnswerDto;
+import com.reviewduck.review.dto.service.ReviewSheetDto;
 
 public interface ReviewRepository extends Repository<Review, Long> {
 
@@ -18,21 +24,58 @@ public interface ReviewRepository extends Repository<Review, Long> {
 
     Optional<Review> findById(long reviewId);
 
+    @EntityGraph(attributePaths = {"member", "reviewForm"})
+    List<Review> findByIdIn(List<Long> reviewIds);
+
+    @EntityGraph(attributePaths = "member")
     Page<Review> findByReviewForm(ReviewForm reviewForm, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"member", "reviewForm"})
     Page<Review> findByIsPrivateFalse(Pageable pageable);
 
-    Page<Review> findByIsPrivateFalseAndLikesGreaterThan(Pageable pageable,int likes);
+    @EntityGraph(attributePaths = {"member", "reviewForm"})
+    Slice<Review> findSliceByIsPrivateFalse(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "reviewForm"})
+    @Query("select r from Review r where r.isPrivate = false "
+        + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))")
+    Slice<Review> findPublicCreatedBefore(LocalDateTime createdAt, long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "reviewForm"})
+    @Query("select r from Review r where r.isPrivate = false "
+        + "and (r.updatedAt < :updatedAt or (r.updatedAt = :updatedAt and r.id < :id))")
+    Slice<Review> findPublicUpdatedBefore(LocalDateTime updatedAt, long id, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"reviewForm", "reviewForm.member"})
     Page<Review> findByMember(Member member, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"reviewForm", "reviewForm.member"})
     Page<Review> findByMemberAndIsPrivateFalse(Member member, Pageable pageable);
 
+    @Query("select distinct r from Review r "
+        + "left join fetch r.questionAnswers qa "
+        + "left join fetch qa.reviewFormQuestion "
+        + "left join fetch qa.answer "
+        + "where r.id in :reviewIds")
+    List<Review> findAllWithQuestionAnswersByIdIn(List<Long> reviewIds);
+
+    @Query(value = "select new com.reviewduck.review.dto.service.ReviewSheetDto("
+        + "r.id, r.title, r.updatedAt, r.likes, m.id, m.socialId, m.nickname, m.socialNickname, m.profileUrl) "
+        + "from Review r join r.member m "
+        + "where r.reviewForm = :reviewForm",
+        countQuery = "select count(r) from Review r where r.reviewForm = :reviewForm")
+    Page<ReviewSheetDto> findSheetByReviewForm(ReviewForm reviewForm, Pageable pageable);
+
+    @Query("select new com.reviewduck.review.dto.service.ReviewSheetAnswerDto(qa.review.id, q.id, a.id, a.value) "
+        + "from QuestionAnswer qa join qa.reviewFormQuestion q join qa.answer a "
+        + "where qa.review.id in :reviewIds")
+    List<ReviewSheetAnswerDto> findSheetAnswersByReviewIdIn(List<Long> reviewIds);
+
     boolean existsByReviewForm(ReviewForm reviewForm);
 
     @Modifying(clearAutomatically = true)
-    @Query("update Review r set r.likes = r.likes + :likeCount where r.id = :#{#review.id}")
-    void increaseLikes(Review review, int likeCount);
+    @Query("update Review r set r.likes = r.likes + :likeCount where r.id = :id")
+    void addLikes(long id, int likeCount);
 
     void deleteById(long id);
 }
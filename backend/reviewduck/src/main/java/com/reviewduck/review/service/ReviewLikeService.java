@@ -0,0 +1,64 @@
+package com.reviewduck.review.service;
+
+import static com.reviewduck.common.util.Logging.*;
+
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.common.domain.PendingCounter;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/*
+    좋아요는 메모리에 누적한 뒤 주기적으로 한 트랜잭션에서 DB 에 반영한다.
+    여러 노드가 동시에 반영할 때 교착 상태가 생기지 않도록 id 순서대로 갱신하고, 반영에 실패하면 다음 주기에 다시 반영한다.
+    애플리케이션 종료 시 남은 좋아요를 모두 반영한다.
+ */
+@Service
+public class ReviewLikeService {
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PendingCounter pendingLikes = new PendingCounter();
+
+    public ReviewLikeService(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public long increase(long reviewId, int likeCount) {
+        return pendingLikes.increase(reviewId, likeCount);
+    }
+
+    public long getPendingLikes(long reviewId) {
+        return pendingLikes.getPendingCount(reviewId);
+    }
+
+    @Scheduled(fixedDelayString = "${review.likes.flush-delay-millis:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> drainedLikes = pendingLikes.drain();
+        if (drainedLikes.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drainedLikes.forEach((reviewId, likeCount) ->
+                reviewRepository.addLikes(reviewId, Math.toIntExact(likeCount))));
+        } catch (DataAccessException | TransactionException e) {
+            error("좋아요 반영에 실패했습니다. reviewCount = " + drainedLikes.size());
+            drainedLikes.forEach(pendingLikes::increase);
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
@@ -1,10 +1,13 @@
 package com.reviewduck.review.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,16 +25,23 @@ import com.reviewduck.review.dto.controller.request.ReviewContentUpdateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewEditResponse;
+import com.reviewduck.review.dto.controller.response.ReviewDisplayBuilder;
 import com.reviewduck.review.dto.controller.response.ReviewEditResponseBuilder;
 import com.reviewduck.review.dto.controller.response.ReviewLikesResponse;
+import com.reviewduck.review.dto.controller.response.ReviewSheetResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineCursorReviewsResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.QuestionAnswerUpdateDto;
+import com.reviewduck.review.dto.service.ReviewSheetAnswerDto;
+import com.reviewduck.review.dto.service.ReviewSheetDto;
+import com.reviewduck.review.exception.ReviewException;
 import com.reviewduck.review.repository.ReviewFormQuestionRepository;
 import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.repository.ReviewRepository;
+import com.reviewduck.review.vo.ReviewCursor;
 import com.reviewduck.review.vo.ReviewSortType;
 
 import lombok.AllArgsConstructor;
@@ -45,6 +55,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewFormQuestionRepository reviewFormQuestionRepository;
     private final MemberRepository memberRepository;
+    private final TrendingReviewService trendingReviewService;
+    private final ReviewLikeService reviewLikeService;
 
     @Transactional
     public long save(long memberId, String code, ReviewCreateRequest request) {
@@ -68,6 +80,7 @@ public class ReviewService {
         Sort sort = Sort.by(Sort.Direction.DESC, ReviewSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
         Page<Review> reviews = getReviewsByOwner(memberId, owner, pageRequest);
+        fetchQuestionAnswers(reviews);
 
         return ReviewsResponse.of(reviews, owner.isSameId(memberId));
     }
@@ -78,7 +91,12 @@ public class ReviewService {
 
         Sort sort = Sort.by(Sort.Direction.DESC, ReviewSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
+        if (ReviewDisplayBuilder.of(displayType) == ReviewDisplayBuilder.SHEET_DISPLAY) {
+            return ReviewsOfReviewFormResponse.from(findSheetByReviewForm(reviewForm, pageRequest, memberId));
+        }
+
         Page<Review> reviews = reviewRepository.findByReviewForm(reviewForm, pageRequest);
+        fetchQuestionAnswers(reviews);
 
         return ReviewsOfReviewFormResponse.of(memberId, reviews, displayType);
     }
@@ -87,9 +105,25 @@ public class ReviewService {
         String sortType = ReviewSortType.getSortBy(sort);
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortType));
         Page<Review> reviews = getTimelineReviews(sort, pageRequest);
+        fetchQuestionAnswers(reviews);
         return TimelineReviewsResponse.of(reviews, memberId);
     }
 
+    /*
+        인기순은 시간에 따라 점수가 바뀌는 순위라 고정된 정렬 값이 없으므로 커서로 이어서 조회할 수 없다.
+     */
+    public TimelineCursorReviewsResponse findAllPublicByCursor(String cursor, int size, String sort, long memberId) {
+        if (ReviewSortType.isTrend(sort)) {
+            throw new ReviewException("인기순 정렬은 커서로 조회할 수 없습니다.");
+        }
+
+        String sortType = ReviewSortType.getSortBy(sort);
+        PageRequest pageRequest = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, sortType, "id"));
+        Slice<Review> reviews = getTimelineReviewsByCursor(cursor, sortType, pageRequest);
+        fetchQuestionAnswers(reviews);
+        return TimelineCursorReviewsResponse.of(reviews, createNextCursor(reviews, sortType), memberId);
+    }
+
     @Transactional
     public void update(long memberId, long id, ReviewUpdateRequest request) {
         Review review = findReviewById(id);
@@ -98,14 +132,15 @@ public class ReviewService {
         List<QuestionAnswerUpdateDto> questionAnswerUpdateDtos = getQuestionAnswerUpdateDtos(request);
 
         review.update(request.getIsPrivate(), request.getTitle(), questionAnswerUpdateDtos);
+        trendingReviewService.update(review);
     }
 
     @Transactional
     public ReviewLikesResponse increaseLikes(long id, int likeCount) {
         Review review = findReviewById(id);
-        reviewRepository.increaseLikes(review, likeCount);
-        int likes = findReviewById(id).getLikes();
-        return new ReviewLikesResponse(likes);
+        long pendingLikes = reviewLikeService.increase(id, likeCount);
+        trendingReviewService.like(review, likeCount);
+        return new ReviewLikesResponse((int)(review.getLikes() + pendingLikes));
     }
 
     @Transactional
@@ -114,6 +149,7 @@ public class ReviewService {
         validateMyReview(memberId, review, "본인이 생성한 회고가 아니면 삭제할 수 없습니다.");
 
         reviewRepository.deleteById(id);
+        trendingReviewService.remove(id);
     }
 
     private Review findReviewById(long id) {
@@ -136,12 +172,83 @@ public class ReviewService {
 
     private Page<Review> getTimelineReviews(String sort, PageRequest pageRequest) {
         if (ReviewSortType.isTrend(sort)) {
-            return reviewRepository.findByIsPrivateFalseAndLikesGreaterThan(
-                pageRequest, 50);
+            return trendingReviewService.findPage(pageRequest);
         }
         return reviewRepository.findByIsPrivateFalse(pageRequest);
     }
 
+    /*
+        시트 형식은 응답 필드만 필요하므로 엔티티 대신 프로젝션으로 조회해
+        영속성 컨텍스트 관리 비용 없이 답변을 회고별로 묶는다.
+     */
+    private Page<ReviewSheetResponse> findSheetByReviewForm(ReviewForm reviewForm, PageRequest pageRequest,
+        long memberId) {
+        Page<ReviewSheetDto> reviews = reviewRepository.findSheetByReviewForm(reviewForm, pageRequest);
+        Map<Long, List<ReviewSheetAnswerDto>> answers = findSheetAnswers(reviews.getContent());
+        List<ReviewFormQuestion> questions = reviewForm.getQuestions();
+
+        return reviews.map(review -> ReviewSheetResponse.of(memberId, review, questions,
+            answers.getOrDefault(review.getId(), List.of())));
+    }
+
+    private Map<Long, List<ReviewSheetAnswerDto>> findSheetAnswers(List<ReviewSheetDto> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> reviewIds = reviews.stream()
+            .map(ReviewSheetDto::getId)
+            .collect(Collectors.toUnmodifiableList());
+        return reviewRepository.findSheetAnswersByReviewIdIn(reviewIds).stream()
+            .collect(Collectors.groupingBy(ReviewSheetAnswerDto::getReviewId));
+    }
+
+    /*
+        목록 조회 시 회고마다 질문과 답변을 지연 로딩하지 않도록
+        페이지에 포함된 회고의 질문과 답변을 한 번의 fetch join 으로 영속성 컨텍스트에 채운다.
+     */
+    private void fetchQuestionAnswers(Slice<Review> reviews) {
+        if (!reviews.hasContent()) {
+            return;
+        }
+
+        List<Long> reviewIds = reviews.getContent().stream()
+            .map(Review::getId)
+            .collect(Collectors.toUnmodifiableList());
+        reviewRepository.findAllWithQuestionAnswersByIdIn(reviewIds);
+    }
+
+    /* -- keyset 페이지네이션을 위한 메서드 -- */
+    private Slice<Review> getTimelineReviewsByCursor(String cursor, String sortType, PageRequest pageRequest) {
+        if (cursor == null || cursor.isBlank()) {
+            return reviewRepository.findSliceByIsPrivateFalse(pageRequest);
+        }
+
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        if (isSortedByUpdatedAt(sortType)) {
+            return reviewRepository.findPublicUpdatedBefore(reviewCursor.getSortValue(), reviewCursor.getId(),
+                pageRequest);
+        }
+        return reviewRepository.findPublicCreatedBefore(reviewCursor.getSortValue(), reviewCursor.getId(),
+            pageRequest);
+    }
+
+    private String createNextCursor(Slice<Review> reviews, String sortType) {
+        if (!reviews.hasNext()) {
+            return null;
+        }
+
+        List<Review> content = reviews.getContent();
+        Review lastReview = content.get(content.size() - 1);
+        LocalDateTime sortValue = isSortedByUpdatedAt(sortType) ? lastReview.getUpdatedAt() : lastReview.getCreatedAt();
+
+        return ReviewCursor.of(sortValue, lastReview.getId()).encode();
+    }
+
+    private boolean isSortedByUpdatedAt(String sortType) {
+        return ReviewSortType.UPDATE.getSortBy().equals(sortType);
+    }
+
     /* -- Entity 에서 일괄 연관객체 생성을 위한 메서드 --- */
     private List<QuestionAnswerCreateDto> getReviewCreateDtos(ReviewCreateRequest request) {
         return request.getContents().stream()
@@ -0,0 +1,170 @@
+package com.reviewduck.review.service;
+
+import static com.reviewduck.common.util.Logging.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewLikeBucket;
+import com.reviewduck.review.domain.TrendingReviews;
+import com.reviewduck.review.repository.ReviewLikeBucketRepository;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/*
+    좋아요를 시간별로 집계해 시간 감쇠된 인기 순위를 메모리에서 조회한다.
+    좋아요는 바로 순위에 반영하고, 주기적으로 review_like_bucket 에 저장한 뒤
+    다른 노드가 저장한 좋아요까지 포함해 순위를 다시 만든다. 재시작해도 저장된 구간으로 순위를 복원한다.
+ */
+@Service
+public class TrendingReviewService {
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewLikeBucketRepository reviewLikeBucketRepository;
+    private final Duration halfLife;
+    private final long retentionHours;
+    private final Object trendingLock = new Object();
+
+    private volatile TrendingReviews trendingReviews;
+
+    public TrendingReviewService(ReviewRepository reviewRepository,
+        ReviewLikeBucketRepository reviewLikeBucketRepository,
+        @Value("${review.trend.half-life-hours:24}") long halfLifeHours,
+        @Value("${review.trend.retention-hours:720}") long retentionHours) {
+        this.reviewRepository = reviewRepository;
+        this.reviewLikeBucketRepository = reviewLikeBucketRepository;
+        this.halfLife = Duration.ofHours(halfLifeHours);
+        this.retentionHours = retentionHours;
+        this.trendingReviews = new TrendingReviews(halfLife);
+    }
+
+    /*
+        저장에 실패하면 다시 만들지 않는다. 저장하지 못한 좋아요가 DB 에서 읽은 순위에 빠지기 때문이다.
+        DB 를 읽는 동안 기록된 좋아요는 아직 저장하지 않은 변경 내역에 남아 있으므로 새 순위에 옮겨 담는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${review.trend.rebuild-delay-millis:300000}",
+        initialDelayString = "${review.trend.rebuild-delay-millis:300000}")
+    public synchronized void rebuild() {
+        if (!saveChanges()) {
+            return;
+        }
+
+        long expiredHour = currentHour() - retentionHours;
+        TrendingReviews rebuilt = new TrendingReviews(halfLife);
+        rebuilt.load(reviewLikeBucketRepository.findAllPublicAfter(expiredHour));
+        reviewLikeBucketRepository.deleteAllBefore(expiredHour);
+
+        synchronized (trendingLock) {
+            rebuilt.recordAll(trendingReviews.getChanges());
+            trendingReviews = rebuilt;
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveChanges();
+    }
+
+    /*
+        DB 를 읽는 동안 비공개로 바뀌거나 삭제된 회고는 새 순위에 남아 있을 수 있으므로, 조회하다 발견하면 순위에서 지운다.
+     */
+    public Page<Review> findPage(Pageable pageable) {
+        TrendingReviews current = trendingReviews;
+        List<Long> reviewIds = current.findReviewIds(pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Review> reviews = reviewRepository.findByIdIn(reviewIds).stream()
+            .collect(Collectors.toUnmodifiableMap(Review::getId, Function.identity()));
+
+        reviewIds.stream()
+            .filter(reviewId -> !reviews.containsKey(reviewId) || reviews.get(reviewId).isPrivate())
+            .forEach(this::remove);
+
+        List<Review> content = reviewIds.stream()
+            .map(reviews::get)
+            .filter(Objects::nonNull)
+            .filter(review -> !review.isPrivate())
+            .collect(Collectors.toUnmodifiableList());
+
+        return new PageImpl<>(content, pageable, current.size());
+    }
+
+    public void like(Review review, int likeCount) {
+        if (review.isPrivate()) {
+            return;
+        }
+
+        synchronized (trendingLock) {
+            trendingReviews.record(review.getId(), currentHour(), likeCount);
+        }
+    }
+
+    /*
+        다시 공개된 회고는 저장된 좋아요로 순위에 되돌린다.
+     */
+    public void update(Review review) {
+        if (review.isPrivate()) {
+            remove(review.getId());
+            return;
+        }
+
+        if (trendingReviews.contains(review.getId())) {
+            return;
+        }
+        List<ReviewLikeBucket> buckets = reviewLikeBucketRepository.findAllByReviewIdAfter(review.getId(),
+            currentHour() - retentionHours);
+        synchronized (trendingLock) {
+            if (!trendingReviews.contains(review.getId())) {
+                trendingReviews.load(buckets);
+            }
+        }
+    }
+
+    /*
+        삭제된 회고의 좋아요 기록은 다시 만들 때 회고와 join 되지 않으므로 보관 기간이 지나 지워질 때까지 남겨 둔다.
+     */
+    public void remove(long reviewId) {
+        synchronized (trendingLock) {
+            trendingReviews.remove(reviewId);
+        }
+    }
+
+    private boolean saveChanges() {
+        TrendingReviews current = trendingReviews;
+        List<ReviewLikeBucket> changes = current.drainChanges();
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            reviewLikeBucketRepository.addAll(changes);
+            return true;
+        } catch (DataAccessException e) {
+            error("회고 좋아요 기록 저장에 실패했습니다. count = " + changes.size());
+            current.restoreChanges(changes);
+            return false;
+        }
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+}
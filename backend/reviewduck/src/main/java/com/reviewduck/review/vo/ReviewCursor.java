@@ -0,0 +1,57 @@
+package com.reviewduck.review.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.reviewduck.review.exception.ReviewException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 타임라인 keyset 페이지네이션에 사용하는 커서
+ * sortValue: 마지막으로 조회한 회고의 정렬 기준 column(createdAt, updatedAt) 값
+ * id: 정렬 기준 값이 같은 회고를 구분하기 위한 회고 id
+ * 클라이언트에는 base64url 로 인코딩된 불투명한 문자열로 전달한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime sortValue;
+    private final long id;
+
+    public static ReviewCursor of(LocalDateTime sortValue, long id) {
+        return new ReviewCursor(sortValue, id);
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            validateLength(values);
+
+            return new ReviewCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReviewException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = sortValue.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void validateLength(String[] values) {
+        if (values.length != 2) {
+            throw new ReviewException("유효하지 않은 커서입니다.");
+        }
+    }
+}
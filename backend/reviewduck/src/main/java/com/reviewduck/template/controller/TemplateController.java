@@ -1,10 +1,10 @@
 package com.reviewduck.template.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -28,6 +28,7 @@ import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
 import com.reviewduck.template.dto.controller.response.MemberTemplatesResponse;
 import com.reviewduck.template.dto.controller.response.TemplateIdResponse;
 import com.reviewduck.template.dto.controller.response.TemplateResponse;
+import com.reviewduck.template.dto.controller.response.TemplateSuggestionsResponse;
 import com.reviewduck.template.dto.controller.response.TemplatesResponse;
 import com.reviewduck.template.service.TemplateService;
 
@@ -47,9 +48,6 @@ public class TemplateController {
     @ResponseStatus(HttpStatus.CREATED)
     public TemplateIdResponse create(@AuthenticationPrincipal MemberDto member,
         @RequestBody @Valid TemplateCreateRequest request) {
-
-        info("/api/templates", "POST", request.toString());
-
         return templateService.save(member.getId(), request);
     }
 
@@ -59,9 +57,6 @@ public class TemplateController {
     public ReviewFormCodeResponse createReviewFormByTemplate(@AuthenticationPrincipal MemberDto member,
         @PathVariable long templateId,
         @RequestBody @Valid ReviewFormCreateRequest request) {
-
-        info("/api/templates/" + templateId + "/review-forms/edited", "POST", request.toString());
-
         return templateService.createReviewFormByTemplate(member.getId(), templateId, request);
     }
 
@@ -70,9 +65,6 @@ public class TemplateController {
     @ResponseStatus(HttpStatus.CREATED)
     public ReviewFormCodeResponse createReviewFormByTemplate(@AuthenticationPrincipal MemberDto member,
         @PathVariable long templateId) {
-
-        info("/api/templates/" + templateId + "/review-forms", "POST", "");
-
         return templateService.createReviewFormByTemplate(member.getId(), templateId);
     }
 
@@ -83,9 +75,6 @@ public class TemplateController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "trend") String sort) {
-
-        info("/api/templates?page=" + page + " size=" + size, "GET", "");
-
         return templateService.findAll(page - 1, size, sort, member.getId());
     }
 
@@ -96,9 +85,6 @@ public class TemplateController {
         @NotBlank @RequestParam(value = "member") String socialId,
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
-
-        info("/api/templates?member=" + socialId + " page=" + page + " size=" + size, "GET", "");
-
         return templateService.findAllBySocialId(socialId, page - 1, size, member.getId());
     }
 
@@ -109,19 +95,21 @@ public class TemplateController {
         @RequestParam String query,
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
-
-        info("/api/templates/search?query=" + query + " page=" + page + " size=" + size, "GET", "");
-
         return templateService.search(query, page - 1, size, member.getId());
     }
 
+    @Operation(summary = "검색어로 시작하는 템플릿 제목을 자동완성한다.")
+    @GetMapping(value = "/autocomplete")
+    @ResponseStatus(HttpStatus.OK)
+    public TemplateSuggestionsResponse autocomplete(@NotBlank @RequestParam String query,
+        @Positive @RequestParam(required = false, defaultValue = "10") int size) {
+        return templateService.suggest(query, size);
+    }
+
     @Operation(summary = "특정 템플릿을 조회한다.")
     @GetMapping("/{templateId}")
     @ResponseStatus(HttpStatus.OK)
     public TemplateResponse find(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId) {
-
-        info("/api/templates/" + templateId, "GET", "");
-
         return templateService.find(templateId, member.getId());
     }
 
@@ -130,9 +118,6 @@ public class TemplateController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void update(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId,
         @RequestBody @Valid TemplateUpdateRequest request) {
-
-        info("/api/templates/" + templateId, "PUT", "");
-
         templateService.update(member.getId(), templateId, request);
     }
 
@@ -140,9 +125,6 @@ public class TemplateController {
     @DeleteMapping("/{templateId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId) {
-
-        info("/api/templates/" + templateId, "DELETE", "");
-
         templateService.delete(member.getId(), templateId);
     }
 
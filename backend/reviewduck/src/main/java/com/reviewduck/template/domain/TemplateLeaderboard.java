@@ -0,0 +1,180 @@
+package com.reviewduck.template.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.reviewduck.template.vo.TemplatePopularityWindow;
+
+/**
+ * 기간별 템플릿 인기 순위
+ * 템플릿마다 가장 긴 집계 기간만큼의 시간별 사용 횟수를 ring buffer 로 두고, 기간별 합계를 함께 유지한다.
+ * 한 시간이 지날 때마다 각 기간에서 빠지는 구간만큼 합계를 줄이므로 순위를 매길 때 구간을 다시 더하지 않는다.
+ * 순위는 조회할 때 기간별로 한 번 정렬해 두고, 사용 횟수가 바뀌거나 시간이 지나면 다시 정렬한다.
+ * DB 에 아직 저장하지 않은 사용 횟수는 따로 모아 두었다가 drainChanges 로 꺼내 간다.
+ */
+public class TemplateLeaderboard {
+
+    private static final TemplatePopularityWindow[] WINDOWS = TemplatePopularityWindow.values();
+    private static final int BUCKET_COUNT = TemplatePopularityWindow.getMaxHours();
+
+    private final Map<Long, Usage> usages = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> changes = new HashMap<>();
+    private final Map<TemplatePopularityWindow, List<Long>> rankings = new EnumMap<>(TemplatePopularityWindow.class);
+
+    private long currentHour;
+
+    public TemplateLeaderboard(long currentHour) {
+        this.currentHour = currentHour;
+    }
+
+    /*
+        DB 에 저장된 사용 횟수를 불러온다. 이미 저장된 값이므로 변경 내역에 남기지 않는다.
+     */
+    public synchronized void load(List<TemplateUsageBucket> buckets) {
+        buckets.forEach(bucket -> add(bucket.getTemplateId(), bucket.getHour(), bucket.getCount()));
+    }
+
+    public synchronized void record(long templateId, long hour, int count) {
+        if (add(templateId, hour, count)) {
+            changes.computeIfAbsent(templateId, id -> new HashMap<>()).merge(hour, count, Integer::sum);
+        }
+    }
+
+    public synchronized void recordAll(List<TemplateUsageBucket> buckets) {
+        buckets.forEach(bucket -> record(bucket.getTemplateId(), bucket.getHour(), bucket.getCount()));
+    }
+
+    public synchronized void remove(long templateId) {
+        if (usages.remove(templateId) != null) {
+            rankings.clear();
+        }
+        changes.remove(templateId);
+    }
+
+    public synchronized List<TemplateUsageBucket> getChanges() {
+        List<TemplateUsageBucket> buckets = new ArrayList<>();
+        changes.forEach((templateId, counts) -> counts.forEach((hour, count) ->
+            buckets.add(new TemplateUsageBucket(templateId, hour, count))));
+        return buckets;
+    }
+
+    public synchronized List<TemplateUsageBucket> drainChanges() {
+        List<TemplateUsageBucket> buckets = getChanges();
+        changes.clear();
+        return buckets;
+    }
+
+    /*
+        저장에 실패한 변경 내역을 되돌린다. 사용 횟수는 이미 반영되어 있으므로 변경 내역에만 다시 더한다.
+     */
+    public synchronized void restoreChanges(List<TemplateUsageBucket> buckets) {
+        buckets.forEach(bucket -> changes.computeIfAbsent(bucket.getTemplateId(), id -> new HashMap<>())
+            .merge(bucket.getHour(), bucket.getCount(), Integer::sum));
+    }
+
+    public synchronized void advanceTo(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+
+        if (hour - currentHour >= BUCKET_COUNT) {
+            usages.clear();
+        } else {
+            for (long next = currentHour + 1; next <= hour; next++) {
+                slide(next);
+            }
+        }
+        currentHour = hour;
+        rankings.clear();
+    }
+
+    public synchronized List<Long> findTemplateIds(TemplatePopularityWindow window, long offset, int size) {
+        return getRanking(window).stream()
+            .skip(offset)
+            .limit(size)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public synchronized int size(TemplatePopularityWindow window) {
+        return getRanking(window).size();
+    }
+
+    public synchronized long getCount(long templateId, TemplatePopularityWindow window) {
+        Usage usage = usages.get(templateId);
+        if (usage == null) {
+            return 0;
+        }
+        return usage.sums[window.ordinal()];
+    }
+
+    private boolean add(long templateId, long hour, int count) {
+        advanceTo(hour);
+        if (count <= 0 || hour <= currentHour - BUCKET_COUNT) {
+            return false;
+        }
+
+        Usage usage = usages.computeIfAbsent(templateId, id -> new Usage());
+        usage.buckets[indexOf(hour)] += count;
+        for (TemplatePopularityWindow window : WINDOWS) {
+            if (hour > currentHour - window.getHours()) {
+                usage.sums[window.ordinal()] += count;
+            }
+        }
+        rankings.clear();
+        return true;
+    }
+
+    /*
+        next 시각이 되면 각 기간에서 next - 기간 시각의 구간이 빠진다.
+        가장 긴 기간에서 빠지는 구간이 next 시각이 쓸 구간이므로 합계를 줄인 뒤에 비운다.
+     */
+    private void slide(long next) {
+        Iterator<Usage> iterator = usages.values().iterator();
+        while (iterator.hasNext()) {
+            Usage usage = iterator.next();
+            for (TemplatePopularityWindow window : WINDOWS) {
+                usage.sums[window.ordinal()] -= usage.buckets[indexOf(next - window.getHours())];
+            }
+            usage.buckets[indexOf(next)] = 0;
+
+            if (usage.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private List<Long> getRanking(TemplatePopularityWindow window) {
+        return rankings.computeIfAbsent(window, ignored -> usages.entrySet().stream()
+            .filter(entry -> entry.getValue().sums[window.ordinal()] > 0)
+            .sorted(Comparator.<Map.Entry<Long, Usage>>comparingLong(entry -> entry.getValue().sums[window.ordinal()])
+                .thenComparingLong(Map.Entry::getKey)
+                .reversed())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toUnmodifiableList()));
+    }
+
+    private static int indexOf(long hour) {
+        return (int)Math.floorMod(hour, (long)BUCKET_COUNT);
+    }
+
+    private static class Usage {
+
+        private final int[] buckets = new int[BUCKET_COUNT];
+        private final long[] sums = new long[WINDOWS.length];
+
+        boolean isEmpty() {
+            for (long sum : sums) {
+                if (sum != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
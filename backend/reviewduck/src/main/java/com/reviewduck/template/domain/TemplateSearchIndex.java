@@ -0,0 +1,222 @@
+package com.reviewduck.template.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 제목, 설명, 질문으로 만든 역색인
+ * 띄어쓰기만으로 단어를 나누기 어려운 한국어도 찾을 수 있도록 모든 단어를 두 글자 단위(bigram)로 나눈다.
+ * 한 글자 검색어로도 찾을 수 있도록 색인할 때는 각 단어의 첫 글자도 함께 넣는다.
+ * 검색 결과는 BM25 점수 순으로 정렬하고, 요청한 페이지까지만 담는 크기 제한 힙으로 상위 결과를 고른다.
+ * 제목의 단어는 TITLE_WEIGHT 번 등장한 것으로 계산해 제목이 일치하는 템플릿을 먼저 보여준다.
+ */
+public class TemplateSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int GRAM_SIZE = 2;
+
+    private static final Comparator<Map.Entry<Long, Double>> RANKING = Map.Entry.<Long, Double>comparingByValue()
+        .reversed()
+        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenizeDocument(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean withLeadingUnigram) {
+        if (text == null) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        List<Integer> word = new ArrayList<>();
+        normalized.codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.add(codePoint);
+                return;
+            }
+            addGrams(word, tokens, withLeadingUnigram);
+            word.clear();
+        });
+        addGrams(word, tokens, withLeadingUnigram);
+        return tokens;
+    }
+
+    private static void addGrams(List<Integer> word, List<String> tokens, boolean withLeadingUnigram) {
+        if (word.isEmpty()) {
+            return;
+        }
+        if (word.size() < GRAM_SIZE) {
+            tokens.add(toText(word));
+            return;
+        }
+        if (withLeadingUnigram) {
+            tokens.add(toText(word.subList(0, 1)));
+        }
+        for (int start = 0; start + GRAM_SIZE <= word.size(); start++) {
+            tokens.add(toText(word.subList(start, start + GRAM_SIZE)));
+        }
+    }
+
+    private static String toText(List<Integer> codePoints) {
+        StringBuilder builder = new StringBuilder();
+        codePoints.forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    public void put(long templateId, String title, String description, Collection<String> questions) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokenizeDocument(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        tokenizeDocument(description).forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+        questions.stream()
+            .flatMap(question -> tokenizeDocument(question).stream())
+            .forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(templateId);
+            addDocument(templateId, new Document(termFrequencies));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long templateId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(templateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TemplateSearchResult search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = score(terms);
+            return new TemplateSearchResult(selectTop(scores, offset, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(Set<String> terms) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (documents.isEmpty()) {
+            return scores;
+        }
+
+        double averageLength = (double)totalLength / documents.size();
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((templateId, termFrequency) -> {
+                double lengthRatio = documents.get(templateId).length / averageLength;
+                double score = idf * termFrequency * (K1 + 1) / (termFrequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(templateId, score, Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    /*
+        힙의 머리에는 지금까지 고른 결과 중 순위가 가장 낮은 항목이 오도록 순위를 뒤집어 비교한다.
+     */
+    private List<Long> selectTop(Map<Long, Double> scores, long offset, int limit) {
+        long count = Math.min(scores.size(), offset + limit);
+        if (offset >= count) {
+            return List.of();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>((int)count + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            heap.offer(score);
+            if (heap.size() > count) {
+                heap.poll();
+            }
+        }
+
+        return heap.stream()
+            .sorted(RANKING)
+            .skip(offset)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private void addDocument(long templateId, Document document) {
+        documents.put(templateId, document);
+        totalLength += document.length;
+        document.termFrequencies.forEach((term, termFrequency) ->
+            postings.computeIfAbsent(term, ignored -> new HashMap<>()).put(templateId, termFrequency));
+    }
+
+    private void removeDocument(long templateId) {
+        Document document = documents.remove(templateId);
+        if (document == null) {
+            return;
+        }
+
+        totalLength -= document.length;
+        document.termFrequencies.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(templateId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static class Document {
+
+        private final Map<String, Integer> termFrequencies;
+        private final int length;
+
+        Document(Map<String, Integer> termFrequencies) {
+            this.termFrequencies = termFrequencies;
+            this.length = termFrequencies.values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.reviewduck.template.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TemplateSearchResult {
+
+    private final List<Long> templateIds;
+    private final long totalCount;
+}
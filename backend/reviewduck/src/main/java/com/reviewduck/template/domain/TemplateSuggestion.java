@@ -0,0 +1,17 @@
+package com.reviewduck.template.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TemplateSuggestion {
+
+    private final long templateId;
+    private final String title;
+    private final int usedCount;
+
+    TemplateSuggestion withUsedCount(int usedCount) {
+        return new TemplateSuggestion(templateId, title, usedCount);
+    }
+}
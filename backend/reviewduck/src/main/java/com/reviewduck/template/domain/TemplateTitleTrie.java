@@ -0,0 +1,180 @@
+package com.reviewduck.template.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 제목 자동완성을 위한 접두사 트라이
+ * 제목 전체와 띄어쓰기 뒤의 각 단어부터 시작하는 문자열을 키로 넣어 제목 중간의 단어로도 찾을 수 있다.
+ * 노드마다 하위 트라이에서 사용 횟수가 가장 많은 MAX_SUGGESTIONS 개의 제목을 미리 계산해 두므로
+ * 조회는 접두사 길이만큼만 내려가면 된다. 변경 시에는 바뀐 키의 경로에 있는 노드만 다시 계산한다.
+ * 쓰기는 한 번에 하나씩 실행하고, 읽기는 잠금 없이 각 노드의 불변 목록을 읽는다.
+ */
+public class TemplateTitleTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<TemplateSuggestion> RANKING = Comparator
+        .comparingInt(TemplateSuggestion::getUsedCount).reversed()
+        .thenComparing(TemplateSuggestion::getTemplateId, Comparator.reverseOrder());
+
+    private final Node root = new Node();
+    private final Map<Long, TemplateSuggestion> suggestions = new HashMap<>();
+
+    public List<TemplateSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int index = 0; index < key.length() && node != null; index++) {
+            node = node.children.get(key.charAt(index));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return node.top.stream()
+            .limit(limit)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public synchronized void put(long templateId, String title, int usedCount) {
+        remove(templateId);
+
+        TemplateSuggestion suggestion = new TemplateSuggestion(templateId, title, usedCount);
+        suggestions.put(templateId, suggestion);
+        for (String key : keysOf(title)) {
+            List<Node> path = findOrCreatePath(key);
+            path.get(path.size() - 1).templateIds.add(templateId);
+            recompute(path);
+        }
+    }
+
+    public synchronized void remove(long templateId) {
+        TemplateSuggestion suggestion = suggestions.remove(templateId);
+        if (suggestion == null) {
+            return;
+        }
+
+        for (String key : keysOf(suggestion.getTitle())) {
+            List<Node> path = findPath(key);
+            if (path.size() == key.length() + 1) {
+                path.get(path.size() - 1).templateIds.remove(templateId);
+                prune(key, path);
+                recompute(path);
+            }
+        }
+    }
+
+    public synchronized void increaseUsedCount(long templateId, int count) {
+        TemplateSuggestion suggestion = suggestions.get(templateId);
+        if (suggestion == null) {
+            return;
+        }
+
+        suggestions.put(templateId, suggestion.withUsedCount(suggestion.getUsedCount() + count));
+        for (String key : keysOf(suggestion.getTitle())) {
+            recompute(findPath(key));
+        }
+    }
+
+    public synchronized int size() {
+        return suggestions.size();
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .trim()
+            .replaceAll("\\s+", " ");
+    }
+
+    private static Set<String> keysOf(String title) {
+        String normalized = normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int index = 0; index < normalized.length(); index++) {
+            if (index == 0 || normalized.charAt(index - 1) == ' ') {
+                keys.add(normalized.substring(index));
+            }
+        }
+        return keys;
+    }
+
+    private List<Node> findOrCreatePath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        for (int index = 0; index < key.length(); index++) {
+            node = node.children.computeIfAbsent(key.charAt(index), ignored -> new Node());
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        for (int index = 0; index < key.length(); index++) {
+            node = node.children.get(key.charAt(index));
+            if (node == null) {
+                break;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void prune(String key, List<Node> path) {
+        for (int index = path.size() - 1; index > 0; index--) {
+            Node node = path.get(index);
+            if (!node.templateIds.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(index - 1).children.remove(key.charAt(index - 1));
+        }
+    }
+
+    /*
+        자식 노드의 상위 목록이 이미 계산되어 있어야 하므로 경로의 아래쪽부터 다시 계산한다.
+        지우는 중인 템플릿은 아직 다른 경로의 목록에 남아 있을 수 있으므로 등록되지 않은 id 는 건너뛴다.
+     */
+    private void recompute(List<Node> path) {
+        for (int index = path.size() - 1; index >= 0; index--) {
+            Node node = path.get(index);
+            Map<Long, TemplateSuggestion> candidates = new LinkedHashMap<>();
+            node.templateIds.forEach(templateId -> candidates.put(templateId, suggestions.get(templateId)));
+            node.children.values().forEach(child -> child.top.forEach(suggestion ->
+                candidates.put(suggestion.getTemplateId(), suggestions.get(suggestion.getTemplateId()))));
+
+            node.top = candidates.values().stream()
+                .filter(Objects::nonNull)
+                .sorted(RANKING)
+                .limit(MAX_SUGGESTIONS)
+                .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final Set<Long> templateIds = ConcurrentHashMap.newKeySet();
+        private volatile List<TemplateSuggestion> top = List.of();
+    }
+}
@@ -0,0 +1,17 @@
+package com.reviewduck.template.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 시간 동안 템플릿이 사용된 횟수
+ * hour: epoch 이후 경과한 시간 수
+ */
+@AllArgsConstructor
+@Getter
+public class TemplateUsageBucket {
+
+    private final long templateId;
+    private final long hour;
+    private final int count;
+}
@@ -1,5 +1,7 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
+
 import com.reviewduck.member.domain.Member;
 
 import lombok.AccessLevel;
@@ -8,7 +10,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class CreatorResponse {
+public class CreatorResponse implements Serializable {
 
     private Long id;
     private String nickname;
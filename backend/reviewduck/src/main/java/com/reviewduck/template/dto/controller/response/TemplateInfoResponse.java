@@ -1,5 +1,6 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
 import java.sql.Timestamp;
 
 import com.reviewduck.template.domain.Template;
@@ -10,7 +11,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class TemplateInfoResponse {
+public class TemplateInfoResponse implements Serializable {
 
     private Long id;
     private String title;
@@ -1,5 +1,7 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
+
 import com.reviewduck.template.domain.TemplateQuestion;
 
 import lombok.AccessLevel;
@@ -8,7 +10,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class TemplateQuestionResponse {
+public class TemplateQuestionResponse implements Serializable {
 
     private Long id;
     private String value;
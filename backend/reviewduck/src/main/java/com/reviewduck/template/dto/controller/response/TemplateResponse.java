@@ -1,5 +1,6 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,7 +13,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class TemplateResponse {
+public class TemplateResponse implements Serializable {
 
     private boolean isCreator;
     private TemplateInfoResponse info;
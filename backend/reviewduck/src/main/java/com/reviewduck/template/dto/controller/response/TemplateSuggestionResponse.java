@@ -0,0 +1,26 @@
+package com.reviewduck.template.dto.controller.response;
+
+import com.reviewduck.template.domain.TemplateSuggestion;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TemplateSuggestionResponse {
+
+    private long templateId;
+    private String templateTitle;
+    private int usedCount;
+
+    public static TemplateSuggestionResponse from(TemplateSuggestion suggestion) {
+        return new TemplateSuggestionResponse(
+            suggestion.getTemplateId(),
+            suggestion.getTitle(),
+            suggestion.getUsedCount()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.reviewduck.template.dto.controller.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.reviewduck.template.domain.TemplateSuggestion;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TemplateSuggestionsResponse {
+
+    private List<TemplateSuggestionResponse> suggestions;
+
+    public static TemplateSuggestionsResponse from(List<TemplateSuggestion> suggestions) {
+        return new TemplateSuggestionsResponse(suggestions.stream()
+            .map(TemplateSuggestionResponse::from)
+            .collect(Collectors.toUnmodifiableList()));
+    }
+}
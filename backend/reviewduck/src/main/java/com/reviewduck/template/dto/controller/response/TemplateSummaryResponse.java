@@ -1,5 +1,7 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
+
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
 
@@ -9,7 +11,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class TemplateSummaryResponse {
+public class TemplateSummaryResponse implements Serializable {
 
     private boolean isCreator;
     private TemplateInfoResponse info;
@@ -1,5 +1,6 @@
 package com.reviewduck.template.dto.controller.response;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,7 +15,7 @@ import lombok.Getter;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-public class TemplatesResponse {
+public class TemplatesResponse implements Serializable {
 
     private long numberOfTemplates;
     private boolean isLastPage;
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
@@ -24,15 +25,18 @@ public interface TemplateRepository extends Repository<Template, Long> {
 
     List<Template> findAllByMember(Member member);
 
-    @Query(nativeQuery = true,
-        value = "select * from template where match(template_title) against(:query)",
-        countQuery = "select count(*) from template where match(template_title) against(:query)"
-    )
-    Page<Template> findByTemplateTitleContaining(Pageable pageable, String query);
+    @EntityGraph(attributePaths = "member")
+    List<Template> findAllByIdIn(List<Long> ids);
+
+    @Query("select t.id from Template t")
+    List<Long> findAllIds();
+
+    @Query("select distinct t from Template t left join fetch t.questions where t.id in :ids")
+    List<Template> findAllWithQuestionsByIdIn(List<Long> ids);
 
     void delete(Template template);
 
     @Modifying
-    @Query("update Template t set t.usedCount = t.usedCount + 1 where t.id = ?1")
-    void increaseUsedCount(long id);
+    @Query("update Template t set t.usedCount = t.usedCount + ?2 where t.id = ?1")
+    void increaseUsedCount(long id, int count);
 }
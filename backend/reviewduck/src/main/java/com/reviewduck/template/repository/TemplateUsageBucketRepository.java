@@ -0,0 +1,55 @@
+package com.reviewduck.template.repository;
+
+import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.reviewduck.template.domain.TemplateUsageBucket;
+
+/*
+    template_usage_bucket 테이블에 템플릿의 시간별 사용 횟수를 저장한다.
+    여러 노드가 같은 구간을 저장할 수 있으므로 덮어쓰지 않고 더한다.
+    다른 노드가 방금 저장한 값까지 읽어야 하므로 source 에서 읽고 쓴다.
+ */
+@Repository
+public class TemplateUsageBucketRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TemplateUsageBucketRepository(@Qualifier(SOURCE) DataSource sourceDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(sourceDataSource);
+    }
+
+    public void addAll(List<TemplateUsageBucket> buckets) {
+        jdbcTemplate.batchUpdate("insert into template_usage_bucket (template_id, bucket_hour, used_count) "
+                + "values (?, ?, ?) "
+                + "on duplicate key update used_count = used_count + values(used_count)",
+            buckets, buckets.size(), (ps, bucket) -> {
+                ps.setLong(1, bucket.getTemplateId());
+                ps.setLong(2, bucket.getHour());
+                ps.setInt(3, bucket.getCount());
+            });
+    }
+
+    public List<TemplateUsageBucket> findAllAfter(long hour) {
+        return jdbcTemplate.query(
+            "select template_id, bucket_hour, used_count from template_usage_bucket where bucket_hour > ?",
+            (rs, rowNum) -> new TemplateUsageBucket(rs.getLong("template_id"), rs.getLong("bucket_hour"),
+                rs.getInt("used_count")),
+            hour);
+    }
+
+    public void deleteAllByTemplateId(long templateId) {
+        jdbcTemplate.update("delete from template_usage_bucket where template_id = ?", templateId);
+    }
+
+    public void deleteAllBefore(long hour) {
+        jdbcTemplate.update("delete from template_usage_bucket where bucket_hour <= ?", hour);
+    }
+}
@@ -0,0 +1,135 @@
+package com.reviewduck.template.service;
+
+import static com.reviewduck.common.util.Logging.*;
+import static com.reviewduck.common.util.TransactionUtils.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.domain.TemplateLeaderboard;
+import com.reviewduck.template.domain.TemplateUsageBucket;
+import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.repository.TemplateUsageBucketRepository;
+import com.reviewduck.template.vo.TemplatePopularityWindow;
+
+/*
+    템플릿 사용을 시간별로 집계해 주간/월간 인기 순위를 메모리에서 조회한다.
+    사용 횟수는 커밋 이후 바로 순위에 반영하고, 주기적으로 template_usage_bucket 에 저장한 뒤
+    다른 노드가 저장한 사용 횟수까지 포함해 순위를 다시 만든다. 재시작해도 저장된 구간으로 순위를 복원한다.
+ */
+@Service
+public class TemplateLeaderboardService {
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final TemplateRepository templateRepository;
+    private final TemplateUsageBucketRepository templateUsageBucketRepository;
+    private final Object leaderboardLock = new Object();
+
+    private volatile TemplateLeaderboard leaderboard = new TemplateLeaderboard(currentHour());
+
+    public TemplateLeaderboardService(TemplateRepository templateRepository,
+        TemplateUsageBucketRepository templateUsageBucketRepository) {
+        this.templateRepository = templateRepository;
+        this.templateUsageBucketRepository = templateUsageBucketRepository;
+    }
+
+    /*
+        저장에 실패하면 다시 만들지 않는다. 저장하지 못한 사용 횟수가 DB 에서 읽은 순위에 빠지기 때문이다.
+        DB 를 읽는 동안 기록된 사용 횟수는 아직 저장하지 않은 변경 내역에 남아 있으므로 새 순위에 옮겨 담는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${template.leaderboard.snapshot-delay-millis:300000}",
+        initialDelayString = "${template.leaderboard.snapshot-delay-millis:300000}")
+    public synchronized void snapshot() {
+        if (!saveChanges()) {
+            return;
+        }
+
+        long hour = currentHour();
+        long expiredHour = hour - TemplatePopularityWindow.getMaxHours();
+        TemplateLeaderboard rebuilt = new TemplateLeaderboard(hour);
+        rebuilt.load(templateUsageBucketRepository.findAllAfter(expiredHour));
+        templateUsageBucketRepository.deleteAllBefore(expiredHour);
+
+        synchronized (leaderboardLock) {
+            rebuilt.recordAll(leaderboard.getChanges());
+            leaderboard = rebuilt;
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveChanges();
+    }
+
+    public Page<Template> findPage(TemplatePopularityWindow window, Pageable pageable) {
+        TemplateLeaderboard current = leaderboard;
+        current.advanceTo(currentHour());
+        List<Long> templateIds = current.findTemplateIds(window, pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Template> templates = templateRepository.findAllByIdIn(templateIds).stream()
+            .collect(Collectors.toUnmodifiableMap(Template::getId, Function.identity()));
+
+        List<Template> content = templateIds.stream()
+            .map(templates::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new PageImpl<>(content, pageable, current.size(window));
+    }
+
+    public void record(long templateId) {
+        runAfterCommit(() -> {
+            synchronized (leaderboardLock) {
+                leaderboard.record(templateId, currentHour(), 1);
+            }
+        });
+    }
+
+    public void onDeleted(long templateId) {
+        runAfterCommit(() -> {
+            synchronized (leaderboardLock) {
+                leaderboard.remove(templateId);
+            }
+            templateUsageBucketRepository.deleteAllByTemplateId(templateId);
+        });
+    }
+
+    private boolean saveChanges() {
+        TemplateLeaderboard current = leaderboard;
+        List<TemplateUsageBucket> changes = current.drainChanges();
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            templateUsageBucketRepository.addAll(changes);
+            return true;
+        } catch (DataAccessException e) {
+            error("템플릿 사용 기록 저장에 실패했습니다. count = " + changes.size());
+            current.restoreChanges(changes);
+            return false;
+        }
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+}
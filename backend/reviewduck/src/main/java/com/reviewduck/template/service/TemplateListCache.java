@@ -0,0 +1,174 @@
+package com.reviewduck.template.service;
+
+import static com.reviewduck.common.util.TransactionUtils.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewduck.config.cache.CacheInvalidationBus;
+import com.reviewduck.config.cache.CacheKey;
+import com.reviewduck.config.cache.CacheKeyType;
+import com.reviewduck.config.cache.CacheType;
+import com.reviewduck.config.cache.DomainEvent;
+import com.reviewduck.config.cache.DomainEventType;
+import com.reviewduck.template.dto.controller.response.TemplatesResponse;
+import com.reviewduck.template.vo.TemplateSortType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    템플릿 목록/검색 캐시를 페이지 단위로 무효화한다.
+    캐시된 목록 페이지마다 포함된 템플릿 id 를 색인해 두고, 템플릿이 바뀌면 영향받는 페이지만 지운다.
+    검색 결과는 BM25 점수가 색인 전체의 통계에 따라 달라지므로 템플릿이 바뀌면 모든 검색 페이지를 지운다.
+    - 생성: 전체 개수가 바뀌므로 모든 목록 페이지
+    - 수정: 해당 템플릿을 포함하는 목록 페이지
+    - 삭제: 모든 목록 페이지
+    - 사용 횟수 반영: 순서가 바뀔 수 있는 모든 인기순, 기간별 인기순 목록 페이지
+    다른 노드는 TemplateService 가 발행한 템플릿 도메인 이벤트를 받아 자신이 색인한 페이지를 지운다.
+ */
+@Component
+public class TemplateListCache {
+
+    private static final String CACHE_NAME = CacheType.TemplatesCache.getCacheName();
+
+    private final Cache cache;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<CacheKey, IndexEntry> index;
+
+    public TemplateListCache(CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus,
+        PlatformTransactionManager transactionManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        this.index = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(CacheType.TemplatesCache.getDuration()))
+            .<CacheKey, IndexEntry>build()
+            .asMap();
+
+        cacheInvalidationBus.subscribeEvent(this::evictAffected);
+    }
+
+    public TemplatesResponse getList(TemplateSortType sortType, int page, int size,
+        Supplier<TemplatesResponse> loader) {
+        CacheKey key = CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, sortType, page, size);
+        return get(key, false, sortType.isRankedByUsage(), loader);
+    }
+
+    public TemplatesResponse getSearch(String query, int page, int size, Supplier<TemplatesResponse> loader) {
+        CacheKey key = CacheKey.ofPage(CacheKeyType.TEMPLATE_SEARCH, query, page, size);
+        return get(key, true, false, loader);
+    }
+
+    public void onSaved(long templateId) {
+        onChanged(DomainEvent.of(DomainEventType.TEMPLATE_SAVED, templateId));
+    }
+
+    public void onUpdated(long templateId) {
+        onChanged(DomainEvent.of(DomainEventType.TEMPLATE_UPDATED, templateId));
+    }
+
+    public void onDeleted(long templateId) {
+        onChanged(DomainEvent.of(DomainEventType.TEMPLATE_DELETED, templateId));
+    }
+
+    public void onUsed() {
+        onChanged(DomainEvent.of(DomainEventType.TEMPLATE_USED));
+    }
+
+    /*
+        같은 키의 동시 미스는 캐시의 로더 하나로 합쳐져 DB 를 한 번만 조회한다.
+        만료가 가까운 페이지는 백그라운드에서 다시 불러오므로 로더는 자체 읽기 트랜잭션 안에서 실행한다.
+        캐시가 다른 경로로 비워졌다가 다시 채워질 수 있으므로 색인은 응답 객체가 바뀔 때마다 새로 만든다.
+     */
+    private TemplatesResponse get(CacheKey key, boolean search, boolean trend, Supplier<TemplatesResponse> loader) {
+        TemplatesResponse response = cache.get(key, () -> {
+            TemplatesResponse loaded = transactionTemplate.execute(status -> loader.get());
+            indexPage(key, search, trend, loaded);
+            return loaded;
+        });
+        indexPage(key, search, trend, response);
+        return response;
+    }
+
+    private void indexPage(CacheKey key, boolean search, boolean trend, TemplatesResponse response) {
+        if (response == null) {
+            return;
+        }
+        index.compute(key, (ignored, entry) -> entry != null && entry.isIndexOf(response)
+            ? entry
+            : IndexEntry.of(search, trend, response));
+    }
+
+    private void onChanged(DomainEvent event) {
+        runAfterCommit(() -> evictAffected(event));
+    }
+
+    private void evictAffected(DomainEvent event) {
+        switch (event.getType()) {
+            case TEMPLATE_SAVED:
+            case TEMPLATE_DELETED:
+                evictWhere(entry -> true);
+                break;
+            case TEMPLATE_UPDATED:
+                long updatedId = event.getTargetId();
+                evictWhere(entry -> entry.isSearch() || entry.contains(updatedId));
+                break;
+            case TEMPLATE_USED:
+                evictWhere(IndexEntry::isTrend);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void evictWhere(Predicate<IndexEntry> affected) {
+        List<CacheKey> keys = index.entrySet().stream()
+            .filter(entry -> affected.test(entry.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toUnmodifiableList());
+
+        keys.forEach(key -> {
+            index.remove(key);
+            cache.evict(key);
+        });
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class IndexEntry {
+
+        private final boolean search;
+        private final boolean trend;
+        private final Set<Long> templateIds;
+        private final TemplatesResponse response;
+
+        static IndexEntry of(boolean search, boolean trend, TemplatesResponse response) {
+            Set<Long> templateIds = response.getTemplates().stream()
+                .map(template -> template.getInfo().getId())
+                .collect(Collectors.toUnmodifiableSet());
+            return new IndexEntry(search, trend, templateIds, response);
+        }
+
+        boolean isIndexOf(TemplatesResponse response) {
+            return this.response == response;
+        }
+
+        boolean contains(long templateId) {
+            return templateIds.contains(templateId);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.reviewduck.template.service;
+
+import static com.reviewduck.common.util.TransactionUtils.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.config.cache.CacheInvalidationBus;
+import com.reviewduck.config.cache.DomainEvent;
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.domain.TemplateSearchIndex;
+import com.reviewduck.template.domain.TemplateSearchResult;
+import com.reviewduck.template.domain.TemplateSuggestion;
+import com.reviewduck.template.domain.TemplateTitleTrie;
+import com.reviewduck.template.repository.TemplateRepository;
+
+/*
+    애플리케이션이 시작되면 모든 템플릿으로 검색 색인과 자동완성 트라이를 만들고, 이후에는 템플릿이 바뀔 때마다 커밋 이후 둘 다 고친다.
+    다른 노드는 TemplateService 가 발행한 템플릿 도메인 이벤트로 바뀐 템플릿 id 를 받아 source 에서 다시 읽어 색인한다.
+    사용 횟수는 커밋한 노드에서만 바로 올리므로, 다른 노드와 어긋난 값은 주기적으로 다시 만들면서 맞춘다.
+    다시 만드는 동안 들어온 변경은 모아 두었다가 새 색인으로 바꾸기 직전에 다시 적용한다.
+ */
+@Service
+public class TemplateSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final TemplateRepository templateRepository;
+    private final TransactionTemplate readTransactionTemplate;
+    private final TransactionTemplate sourceTransactionTemplate;
+
+    private final Object changeLock = new Object();
+
+    private volatile TemplateSearchIndex index = new TemplateSearchIndex();
+    private volatile TemplateTitleTrie titleTrie = new TemplateTitleTrie();
+    private List<SearchChange> changesDuringRebuild;
+
+    public TemplateSearchService(TemplateRepository templateRepository, CacheInvalidationBus cacheInvalidationBus,
+        PlatformTransactionManager transactionManager) {
+        this.templateRepository = templateRepository;
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.sourceTransactionTemplate = new TransactionTemplate(transactionManager);
+        readTransactionTemplate.setReadOnly(true);
+
+        cacheInvalidationBus.subscribeEvent(this::handleRemoteEvent);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${template.search.rebuild-delay-millis:600000}",
+        initialDelayString = "${template.search.rebuild-delay-millis:600000}")
+    public synchronized void rebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            TemplateSearchIndex rebuiltIndex = new TemplateSearchIndex();
+            TemplateTitleTrie rebuiltTitleTrie = new TemplateTitleTrie();
+            readTransactionTemplate.executeWithoutResult(status -> {
+                List<Long> templateIds = templateRepository.findAllIds();
+                for (int from = 0; from < templateIds.size(); from += REBUILD_BATCH_SIZE) {
+                    List<Long> batch = templateIds.subList(from,
+                        Math.min(from + REBUILD_BATCH_SIZE, templateIds.size()));
+                    templateRepository.findAllWithQuestionsByIdIn(batch)
+                        .forEach(template -> putChange(template).apply(rebuiltIndex, rebuiltTitleTrie));
+                }
+            });
+
+            synchronized (changeLock) {
+                changesDuringRebuild.forEach(change -> change.apply(rebuiltIndex, rebuiltTitleTrie));
+                index = rebuiltIndex;
+                titleTrie = rebuiltTitleTrie;
+            }
+        } finally {
+            synchronized (changeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    public TemplateSearchResult search(String query, int page, int size) {
+        return index.search(query, (long)page * size, size);
+    }
+
+    public List<TemplateSuggestion> suggest(String query, int size) {
+        return titleTrie.suggest(query, Math.min(size, TemplateTitleTrie.MAX_SUGGESTIONS));
+    }
+
+    /*
+        DB 에서 사라진 템플릿이 검색되면 색인에서도 지운다.
+     */
+    public void removeMissing(List<Long> templateIds, List<Template> foundTemplates) {
+        List<Long> foundIds = foundTemplates.stream()
+            .map(Template::getId)
+            .collect(Collectors.toUnmodifiableList());
+        templateIds.stream()
+            .filter(templateId -> !foundIds.contains(templateId))
+            .forEach(this::remove);
+    }
+
+    public void onSaved(Template template) {
+        onChanged(template);
+    }
+
+    public void onUpdated(Template template) {
+        onChanged(template);
+    }
+
+    public void onDeleted(long templateId) {
+        runAfterCommit(() -> remove(templateId));
+    }
+
+    /*
+        다시 만든 색인이 이미 읽은 사용 횟수에 한 번 더 더해질 수 있지만, 다음에 다시 만들 때 맞춰진다.
+     */
+    public void onUsed(long templateId) {
+        runAfterCommit(() -> applyChange((targetIndex, targetTitleTrie) ->
+            targetTitleTrie.increaseUsedCount(templateId, 1)));
+    }
+
+    private void onChanged(Template template) {
+        SearchChange change = putChange(template);
+        runAfterCommit(() -> applyChange(change));
+    }
+
+    /*
+        사용 횟수는 주기적으로 다시 만들면서 맞추므로 생성, 수정, 삭제만 반영한다.
+     */
+    private void handleRemoteEvent(DomainEvent event) {
+        switch (event.getType()) {
+            case TEMPLATE_SAVED:
+            case TEMPLATE_UPDATED:
+            case TEMPLATE_DELETED:
+                reload(event.getTargetId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void reload(long templateId) {
+        sourceTransactionTemplate.executeWithoutResult(status ->
+            templateRepository.findAllWithQuestionsByIdIn(List.of(templateId)).stream()
+                .findAny()
+                .ifPresentOrElse(template -> applyChange(putChange(template)), () -> remove(templateId)));
+    }
+
+    private void applyChange(SearchChange change) {
+        synchronized (changeLock) {
+            change.apply(index, titleTrie);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    /*
+        나중에 다시 적용할 수 있도록 템플릿의 값을 미리 꺼내 둔다.
+     */
+    private SearchChange putChange(Template template) {
+        long templateId = template.getId();
+        String title = template.getTemplateTitle();
+        String description = template.getTemplateDescription();
+        int usedCount = template.getUsedCount();
+        List<String> questions = toQuestionTexts(template);
+
+        return (targetIndex, targetTitleTrie) -> {
+            targetIndex.put(templateId, title, description, questions);
+            targetTitleTrie.put(templateId, title, usedCount);
+        };
+    }
+
+    private void remove(long templateId) {
+        applyChange((targetIndex, targetTitleTrie) -> {
+            targetIndex.remove(templateId);
+            targetTitleTrie.remove(templateId);
+        });
+    }
+
+    private List<String> toQuestionTexts(Template template) {
+        return template.getQuestions().stream()
+            .flatMap(question -> Stream.of(question.getValue(), question.getDescription()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    @FunctionalInterface
+    private interface SearchChange {
+
+        void apply(TemplateSearchIndex index, TemplateTitleTrie titleTrie);
+    }
+}
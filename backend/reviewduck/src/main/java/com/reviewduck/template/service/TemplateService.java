@@ -3,12 +3,16 @@ package com.reviewduck.template.service;
 import static com.reviewduck.template.dto.service.ServiceDtoConverter.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -16,6 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.config.cache.CacheInvalidationBus;
+import com.reviewduck.config.cache.DomainEvent;
+import com.reviewduck.config.cache.DomainEventType;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
 import com.reviewduck.review.domain.ReviewForm;
@@ -25,13 +32,16 @@ import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
 import com.reviewduck.review.dto.service.ServiceDtoConverter;
 import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.domain.TemplateSearchResult;
 import com.reviewduck.template.dto.controller.request.TemplateCreateRequest;
 import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
 import com.reviewduck.template.dto.controller.response.MemberTemplatesResponse;
 import com.reviewduck.template.dto.controller.response.TemplateIdResponse;
 import com.reviewduck.template.dto.controller.response.TemplateResponse;
+import com.reviewduck.template.dto.controller.response.TemplateSuggestionsResponse;
 import com.reviewduck.template.dto.controller.response.TemplatesResponse;
 import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.vo.TemplatePopularityWindow;
 import com.reviewduck.template.vo.TemplateSortType;
 
 import lombok.AllArgsConstructor;
@@ -44,9 +54,13 @@ public class TemplateService {
     private final TemplateRepository templateRepository;
     private final ReviewFormRepository reviewFormRepository;
     private final MemberRepository memberRepository;
+    private final TemplateListCache templateListCache;
+    private final TemplateSearchService templateSearchService;
+    private final TemplateUsageService templateUsageService;
+    private final TemplateLeaderboardService templateLeaderboardService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional
-    @CacheEvict(value = "templatesCacheStore", allEntries = true)
     public TemplateIdResponse save(long memberId, TemplateCreateRequest request) {
         Member member = getMemberByMemberId(memberId);
         Template template = new Template(
@@ -55,13 +69,18 @@ public class TemplateService {
             request.getTemplateDescription(),
             toTemplateQuestionCreateDtos(request.getQuestions())
         );
-        return TemplateIdResponse.from(templateRepository.save(template));
+        Template savedTemplate = templateRepository.save(template);
+        templateListCache.onSaved(savedTemplate.getId());
+        templateSearchService.onSaved(savedTemplate);
+        cacheInvalidationBus.publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_SAVED, savedTemplate.getId()));
+
+        return TemplateIdResponse.from(savedTemplate);
     }
 
     @Transactional
     public ReviewFormCodeResponse createReviewFormByTemplate(long memberId, long templateId,
         ReviewFormCreateRequest request) {
-        templateRepository.increaseUsedCount(templateId);
+        increaseUsedCount(findById(templateId));
         return ReviewFormCodeResponse.from(saveFromTemplate(memberId, request));
     }
 
@@ -71,25 +90,31 @@ public class TemplateService {
     }
 
 
-    @Cacheable(value = "templateCacheStore", key = "#templateId")
+    @Cacheable(value = "templateCacheStore", keyGenerator = "templateKeyGenerator", sync = true)
     public TemplateResponse find(long templateId, long memberId) {
         Template template = findById(templateId);
         return TemplateResponse.of(template, memberId);
     }
 
-    @Cacheable(value = "templatesCacheStore", key = "#page + #size + #sort")
     public TemplatesResponse findAll(int page, int size, String sort, long memberId) {
-        String sortType = TemplateSortType.getSortBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortType));
-        Page<Template> templates = templateRepository.findAll(pageRequest);
-        return TemplatesResponse.of(templates, memberId);
+        TemplateSortType sortType = TemplateSortType.from(sort);
+        return templateListCache.getList(sortType, page, size, () -> {
+            Page<Template> templates = findPage(sortType, page, size);
+            return TemplatesResponse.of(templates, memberId);
+        });
     }
 
-    @Cacheable(value = "templatesCacheStore", key = "#query + #page + #size")
     public TemplatesResponse search(String query, int page, int size, long memberId) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Template> templates = templateRepository.findByTemplateTitleContaining(pageRequest, query);
-        return TemplatesResponse.of(templates, memberId);
+        return templateListCache.getSearch(query, page, size, () -> {
+            PageRequest pageRequest = PageRequest.of(page, size);
+            TemplateSearchResult result = templateSearchService.search(query, page, size);
+            List<Template> templates = findAllInOrder(result.getTemplateIds());
+            return TemplatesResponse.of(new PageImpl<>(templates, pageRequest, result.getTotalCount()), memberId);
+        });
+    }
+
+    public TemplateSuggestionsResponse suggest(String query, int size) {
+        return TemplateSuggestionsResponse.from(templateSearchService.suggest(query, size));
     }
 
     public MemberTemplatesResponse findAllBySocialId(String socialId, int page, int size, long memberId) {
@@ -108,10 +133,7 @@ public class TemplateService {
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "templateCacheStore", key = "#templateId"),
-        @CacheEvict(value = "templatesCacheStore", allEntries = true)
-    })
+    @CacheEvict(value = "templateCacheStore", keyGenerator = "templateKeyGenerator")
     public void update(long memberId, long templateId, TemplateUpdateRequest request) {
         Template template = findById(templateId);
         validateTemplateIsMine(template, memberId, "본인이 생성한 템플릿이 아니면 수정할 수 없습니다.");
@@ -121,18 +143,22 @@ public class TemplateService {
             request.getTemplateDescription(),
             toTemplateQuestionUpdateDtos(request.getQuestions())
         );
+        templateListCache.onUpdated(templateId);
+        templateSearchService.onUpdated(template);
+        cacheInvalidationBus.publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_UPDATED, templateId));
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "templateCacheStore", key = "#templateId"),
-        @CacheEvict(value = "templatesCacheStore", allEntries = true)
-    })
+    @CacheEvict(value = "templateCacheStore", keyGenerator = "templateKeyGenerator")
     public void delete(long memberId, long templateId) {
         Template template = findById(templateId);
         validateTemplateIsMine(template, memberId, "본인이 생성한 템플릿이 아니면 삭제할 수 없습니다.");
 
         templateRepository.delete(template);
+        templateListCache.onDeleted(templateId);
+        templateSearchService.onDeleted(templateId);
+        templateLeaderboardService.onDeleted(templateId);
+        cacheInvalidationBus.publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_DELETED, templateId));
     }
 
     private ReviewForm saveFromTemplate(long memberId, ReviewFormCreateRequest request) {
@@ -151,7 +177,7 @@ public class TemplateService {
 
     private ReviewForm saveFromTemplate(long memberId, long templateId) {
         Template template = findById(templateId);
-        templateRepository.increaseUsedCount(templateId);
+        increaseUsedCount(template);
 
         List<ReviewFormQuestionCreateDto> questions = template.getQuestions().stream()
             .map(question -> new ReviewFormQuestionCreateDto(question.getValue(), question.getDescription()))
@@ -161,6 +187,40 @@ public class TemplateService {
         return reviewFormRepository.save(reviewForm);
     }
 
+    /*
+        사용 횟수는 메모리와 버킷에 템플릿 id 별로 쌓이므로, 조회로 존재를 확인한 템플릿만 받는다.
+     */
+    private void increaseUsedCount(Template template) {
+        long templateId = template.getId();
+        templateUsageService.increase(templateId);
+        templateSearchService.onUsed(templateId);
+        templateLeaderboardService.record(templateId);
+    }
+
+    private Page<Template> findPage(TemplateSortType sortType, int page, int size) {
+        Optional<TemplatePopularityWindow> window = sortType.getWindow();
+        if (window.isPresent()) {
+            return templateLeaderboardService.findPage(window.get(), PageRequest.of(page, size));
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortType.getSortBy()));
+        return templateRepository.findAll(pageRequest);
+    }
+
+    private List<Template> findAllInOrder(List<Long> templateIds) {
+        List<Template> foundTemplates = templateRepository.findAllByIdIn(templateIds);
+        if (foundTemplates.size() < templateIds.size()) {
+            templateSearchService.removeMissing(templateIds, foundTemplates);
+        }
+
+        Map<Long, Template> templates = foundTemplates.stream()
+            .collect(Collectors.toUnmodifiableMap(Template::getId, Function.identity()));
+        return templateIds.stream()
+            .map(templates::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
     private Template findById(long id) {
         return templateRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 템플릿입니다."));
@@ -0,0 +1,77 @@
+package com.reviewduck.template.service;
+
+import static com.reviewduck.common.util.Logging.*;
+import static com.reviewduck.common.util.TransactionUtils.*;
+
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.common.domain.PendingCounter;
+import com.reviewduck.config.cache.CacheInvalidationBus;
+import com.reviewduck.config.cache.DomainEvent;
+import com.reviewduck.config.cache.DomainEventType;
+import com.reviewduck.template.repository.TemplateRepository;
+
+/*
+    템플릿 사용 횟수는 회고 폼이 커밋된 뒤 메모리에 누적하고, 주기적으로 한 트랜잭션에서 템플릿별 한 번의 update 로 DB 에 반영한다.
+    회고 폼 생성 트랜잭션이 인기 템플릿의 row lock 을 잡지 않으므로 같은 템플릿으로 동시에 만들어도 서로 기다리지 않는다.
+    여러 노드가 동시에 반영할 때 교착 상태가 생기지 않도록 id 순서대로 갱신하고, 반영에 실패하면 다음 주기에 다시 반영한다.
+    반영한 뒤에는 인기순 목록 캐시를 비워 바뀐 순서로 다시 조회되게 하고, 애플리케이션 종료 시 남은 횟수를 모두 반영한다.
+ */
+@Service
+public class TemplateUsageService {
+
+    private final TemplateRepository templateRepository;
+    private final TemplateListCache templateListCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final PendingCounter pendingCounts = new PendingCounter();
+
+    public TemplateUsageService(TemplateRepository templateRepository, TemplateListCache templateListCache,
+        CacheInvalidationBus cacheInvalidationBus, PlatformTransactionManager transactionManager) {
+        this.templateRepository = templateRepository;
+        this.templateListCache = templateListCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increase(long templateId) {
+        runAfterCommit(() -> pendingCounts.increase(templateId, 1));
+    }
+
+    public long getPendingCount(long templateId) {
+        return pendingCounts.getPendingCount(templateId);
+    }
+
+    @Scheduled(fixedDelayString = "${template.used-count.flush-delay-millis:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> drainedCounts = pendingCounts.drain();
+        if (drainedCounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drainedCounts.forEach((templateId, count) ->
+                templateRepository.increaseUsedCount(templateId, Math.toIntExact(count))));
+        } catch (DataAccessException | TransactionException e) {
+            error("템플릿 사용 횟수 반영에 실패했습니다. templateCount = " + drainedCounts.size());
+            drainedCounts.forEach(pendingCounts::increase);
+            return;
+        }
+        templateListCache.onUsed();
+        cacheInvalidationBus.publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_USED));
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
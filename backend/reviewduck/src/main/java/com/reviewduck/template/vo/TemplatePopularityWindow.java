@@ -0,0 +1,25 @@
+package com.reviewduck.template.vo;
+
+/**
+ * 템플릿 인기 순위를 집계하는 기간
+ * hours: 집계에 포함하는 최근 시간 단위 구간의 개수
+ */
+public enum TemplatePopularityWindow {
+
+    WEEK(7 * 24),
+    MONTH(30 * 24);
+
+    private final int hours;
+
+    TemplatePopularityWindow(int hours) {
+        this.hours = hours;
+    }
+
+    public static int getMaxHours() {
+        return MONTH.hours;
+    }
+
+    public int getHours() {
+        return hours;
+    }
+}
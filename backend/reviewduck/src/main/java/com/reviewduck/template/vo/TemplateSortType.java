@@ -1,34 +1,51 @@
 package com.reviewduck.template.vo;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * ex) sort=latest
  * param: 요청으로 받는 sort query에 해당하는 query value
  * sortBy: OrderBy에 사용할 database column
+ * window: 기간별 인기 순위로 정렬할 때의 집계 기간, 전체 기간 기준이면 null
  */
 public enum TemplateSortType {
 
-    LATEST("latest", "createdAt"),
-    TREND("trend", "usedCount");
+    LATEST("latest", "createdAt", null),
+    TREND("trend", "usedCount", null),
+    WEEKLY("weekly", "usedCount", TemplatePopularityWindow.WEEK),
+    MONTHLY("monthly", "usedCount", TemplatePopularityWindow.MONTH);
 
     private final String param;
     private final String sortBy;
+    private final TemplatePopularityWindow window;
 
-    TemplateSortType(String param, String sortBy) {
+    TemplateSortType(String param, String sortBy, TemplatePopularityWindow window) {
         this.param = param;
         this.sortBy = sortBy;
+        this.window = window;
     }
 
-    public static String getSortBy(String input) {
+    public static TemplateSortType from(String input) {
         return Arrays.stream(values())
             .filter(it -> it.param.equals(input))
             .findAny()
-            .orElse(TREND)
-            .sortBy;
+            .orElse(TREND);
+    }
+
+    public static String getSortBy(String input) {
+        return from(input).sortBy;
     }
 
     public String getSortBy() {
         return sortBy;
     }
+
+    public Optional<TemplatePopularityWindow> getWindow() {
+        return Optional.ofNullable(window);
+    }
+
+    public boolean isRankedByUsage() {
+        return this != LATEST;
+    }
 }
@@ -31,6 +31,9 @@ public class AdminMemberServiceTest {
     @Autowired
     private AdminMemberRepository adminMemberRepository;
 
+    @Autowired
+    private MemberService memberService;
+
     private Member savedMember;
 
     @BeforeEach
@@ -69,6 +72,19 @@ public class AdminMemberServiceTest {
         assertThat(members.get(0).getNickname()).isEqualTo("탈퇴한 회원입니다.");
     }
 
+    @Test
+    @DisplayName("멤버를 삭제하면 캐싱된 인증 사용자 정보도 지운다.")
+    void evictPrincipalOnDelete() {
+        // given
+        memberService.findPrincipal(savedMember.getId());
+
+        // when
+        adminMemberService.deleteMember(savedMember.getId());
+
+        // then
+        assertThat(memberService.findPrincipal(savedMember.getId()).getSocialId()).isEqualTo("-");
+    }
+
     @Test
     @DisplayName("존재하지 않는 멤버를 삭제할 수 없다.")
     void failToDeleteMember() {
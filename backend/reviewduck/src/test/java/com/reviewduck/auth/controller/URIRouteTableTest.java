@@ -0,0 +1,109 @@
+package com.reviewduck.auth.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class URIRouteTableTest {
+
+    /*
+        URIPattern 이 정규식으로 경로를 비교하던 때의 패턴
+     */
+    private static final Map<URIPattern, Pattern> LEGACY_PATTERNS = Map.of(
+        URIPattern.TemplateFindRequestPattern, Pattern.compile("/api/templates.*"),
+        URIPattern.MemberReviewFormFindRequestPattern, Pattern.compile("/api/review-forms"),
+        URIPattern.MemberReviewFindRequestPattern, Pattern.compile("/api/reviews"),
+        URIPattern.MemberFindRequestPattern, Pattern.compile("/api/members/[0-9]+"),
+        URIPattern.ReviewFormFindRequestPattern, Pattern.compile("/api/review-forms/[0-9A-Z]+")
+    );
+
+    private static final List<String> URIS = List.of(
+        "", "/", "//", "api", "/api", "/api/",
+        "/api/templates", "/api/templates/", "/api/templates/1", "/api/templates/1/edit", "/api/templatesx",
+        "/api/templates/autocomplete", "/api/template", "/api//templates",
+        "/api/review-forms", "/api/review-forms/", "/api/review-forms/ABC12", "/api/review-forms/abc12",
+        "/api/review-forms/ABC-12", "/api/review-forms/ABC12/", "/api/review-forms/ABC12/reviews",
+        "/api/reviews", "/api/reviews/", "/api/reviews/1",
+        "/api/members", "/api/members/", "/api/members/1", "/api/members/12a", "/api/members/1/", "/api/members/me",
+        "/api/auth/login", "/api/admin/members"
+    );
+
+    private static final List<String> METHODS = List.of("GET", "POST", "PUT", "DELETE", "HEAD");
+    private static final List<Map<String, String>> PARAMETERS = List.of(
+        Map.of(), Map.of("member", "1"), Map.of("page", "1"), Map.of("member", "1", "page", "1")
+    );
+
+    private final URIRouteTable routeTable = URIRouteTable.compile(URIPattern.values());
+
+    @Test
+    @DisplayName("모든 메서드, 경로, 파라미터 조합에서 정규식으로 비교하던 때와 같은 결과를 낸다.")
+    void matchLikeLegacyPatterns() {
+        // when, then
+        for (String method : METHODS) {
+            for (String uri : URIS) {
+                for (Map<String, String> parameters : PARAMETERS) {
+                    MockHttpServletRequest request = createRequest(method, uri, parameters);
+
+                    assertThat(routeTable.matches(request, "member"))
+                        .as("%s %s %s", method, uri, parameters)
+                        .isEqualTo(matchesLegacy(request));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(URIPattern.class)
+    @DisplayName("각 패턴만으로 만든 표도 정규식으로 비교하던 때와 같은 결과를 낸다.")
+    void matchEachPatternLikeLegacy(URIPattern pattern) {
+        // given
+        URIRouteTable singleRouteTable = URIRouteTable.compile(pattern);
+
+        // when, then
+        for (String uri : URIS) {
+            for (Map<String, String> parameters : PARAMETERS) {
+                MockHttpServletRequest request = createRequest("GET", uri, parameters);
+
+                assertThat(singleRouteTable.matches(request, "member"))
+                    .as("%s %s", uri, parameters)
+                    .isEqualTo(matchesLegacy(pattern, request));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("GET 이 아닌 요청은 경로가 같아도 인증이 필요하다.")
+    void requireAuthenticationForOtherMethods() {
+        // given
+        MockHttpServletRequest request = createRequest("POST", "/api/templates", Map.of());
+
+        // when, then
+        assertThat(routeTable.matches(request, "member")).isFalse();
+    }
+
+    private MockHttpServletRequest createRequest(String method, String uri, Map<String, String> parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        parameters.forEach(request::setParameter);
+        return request;
+    }
+
+    private boolean matchesLegacy(MockHttpServletRequest request) {
+        return Stream.of(URIPattern.values())
+            .anyMatch(pattern -> matchesLegacy(pattern, request));
+    }
+
+    private boolean matchesLegacy(URIPattern pattern, MockHttpServletRequest request) {
+        return LEGACY_PATTERNS.get(pattern).matcher(request.getRequestURI()).matches()
+            && pattern.getContainsParam().apply(request.getParameterMap(), "member")
+            && request.getMethod().equals("GET");
+    }
+}
@@ -0,0 +1,49 @@
+package com.reviewduck.auth.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reviewduck.auth.domain.RefreshTokenFamily;
+
+class CachedRefreshTokenFamilyStoreTest {
+
+    private final RefreshTokenFamilyStore delegate = mock(RefreshTokenFamilyStore.class);
+    private final CachedRefreshTokenFamilyStore store = new CachedRefreshTokenFamilyStore(delegate, 100,
+        Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("이 노드에서 이미 바꾼 token 으로 rotate 하면 저장소에 묻지 않고 거절한다.")
+    void rejectReplacedTokenInMemory() {
+        // given
+        store.save(RefreshTokenFamily.start("family", 1L, "token1", Long.MAX_VALUE));
+        when(delegate.rotate("family", "token1", "token2", 1L, Long.MAX_VALUE)).thenReturn(true);
+        store.rotate("family", "token1", "token2", 1L, Long.MAX_VALUE);
+
+        // when
+        boolean rotated = store.rotate("family", "token1", "token3", 2L, Long.MAX_VALUE);
+
+        // then
+        assertThat(rotated).isFalse();
+        verify(delegate, never()).rotate(eq("family"), eq("token1"), eq("token3"), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이 노드에서 폐기한 계열로 rotate 하면 저장소에 묻지 않고 거절한다.")
+    void rejectRevokedFamilyInMemory() {
+        // given
+        store.save(RefreshTokenFamily.start("family", 1L, "token1", Long.MAX_VALUE));
+        store.revoke("family");
+
+        // when
+        boolean rotated = store.rotate("family", "token1", "token2", 1L, Long.MAX_VALUE);
+
+        // then
+        assertThat(rotated).isFalse();
+        verify(delegate, never()).rotate(anyString(), anyString(), anyString(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,134 @@
+package com.reviewduck.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.admin.service.AdminMemberService;
+import com.reviewduck.auth.dto.service.TokensDto;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.repository.RefreshTokenFamilyStore;
+import com.reviewduck.auth.support.JwtTokenProvider;
+import com.reviewduck.auth.support.RefreshTokenClaims;
+import com.reviewduck.common.service.ServiceTest;
+
+public class RefreshTokenServiceTest extends ServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+
+    @Autowired
+    private AdminMemberService adminMemberService;
+
+    @Test
+    @DisplayName("refresh token 으로 같은 회원의 token 을 다시 발급한다.")
+    void regenerateTokens() {
+        // given
+        String refreshToken = refreshTokenService.issue(memberId1);
+
+        // when
+        TokensDto tokens = authService.regenerateTokens(refreshToken);
+
+        // then
+        RefreshTokenClaims previous = jwtTokenProvider.parseRefreshToken(refreshToken);
+        RefreshTokenClaims next = jwtTokenProvider.parseRefreshToken(tokens.getRefreshToken());
+        assertAll(
+            () -> assertThat(jwtTokenProvider.parseAccessToken(tokens.getAccessToken()).getSubject())
+                .isEqualTo(String.valueOf(memberId1)),
+            () -> assertThat(next.getFamilyId()).isEqualTo(previous.getFamilyId()),
+            () -> assertThat(next.getTokenId()).isNotEqualTo(previous.getTokenId())
+        );
+    }
+
+    @Test
+    @DisplayName("바로 이전 refresh token 은 유예 시간 안에 다시 쓰면 현재 token 을 돌려준다.")
+    void regenerateWithPreviousTokenWithinGrace() {
+        // given
+        String refreshToken = refreshTokenService.issue(memberId1);
+        String nextRefreshToken = authService.regenerateTokens(refreshToken).getRefreshToken();
+
+        // when
+        String concurrentRefreshToken = authService.regenerateTokens(refreshToken).getRefreshToken();
+
+        // then
+        RefreshTokenClaims next = jwtTokenProvider.parseRefreshToken(nextRefreshToken);
+        RefreshTokenClaims concurrent = jwtTokenProvider.parseRefreshToken(concurrentRefreshToken);
+        assertAll(
+            () -> assertThat(concurrent.getTokenId()).isEqualTo(next.getTokenId()),
+            () -> assertThat(refreshTokenFamilyStore.findById(next.getFamilyId()).orElseThrow().isRevoked())
+                .isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("이미 사용한 refresh token 을 다시 쓰면 거부하고 계열 전체를 폐기한다.")
+    void revokeFamilyOnReuse() {
+        // given
+        String refreshToken = refreshTokenService.issue(memberId1);
+        String nextRefreshToken = authService.regenerateTokens(refreshToken).getRefreshToken();
+        String lastRefreshToken = authService.regenerateTokens(nextRefreshToken).getRefreshToken();
+
+        // when
+        assertThatThrownBy(() -> authService.regenerateTokens(refreshToken))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("이미 사용된 리프레시 토큰입니다.");
+
+        // then
+        String familyId = jwtTokenProvider.parseRefreshToken(refreshToken).getFamilyId();
+        assertAll(
+            () -> assertThat(refreshTokenFamilyStore.findById(familyId).orElseThrow().isRevoked()).isTrue(),
+            () -> assertThatThrownBy(() -> authService.regenerateTokens(lastRefreshToken))
+                .isInstanceOf(AuthorizationException.class)
+                .hasMessageContaining("폐기된 로그인입니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("회원을 삭제하면 그 회원의 모든 로그인을 폐기한다.")
+    void revokeAllOnMemberDelete() {
+        // given
+        String refreshToken1 = refreshTokenService.issue(memberId1);
+        String refreshToken2 = refreshTokenService.issue(memberId1);
+        String otherRefreshToken = refreshTokenService.issue(memberId2);
+
+        // when
+        adminMemberService.deleteMember(memberId1);
+
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> authService.regenerateTokens(refreshToken1))
+                .isInstanceOf(AuthorizationException.class)
+                .hasMessageContaining("폐기된 로그인입니다."),
+            () -> assertThatThrownBy(() -> authService.regenerateTokens(refreshToken2))
+                .isInstanceOf(AuthorizationException.class)
+                .hasMessageContaining("폐기된 로그인입니다."),
+            () -> assertThat(authService.regenerateTokens(otherRefreshToken).getRefreshToken()).isNotNull()
+        );
+    }
+
+    @Test
+    @DisplayName("계열이 없는 이전 형식의 refresh token 은 새 계열로 다시 발급한다.")
+    void migrateLegacyToken() {
+        // given
+        RefreshTokenClaims legacyClaims = new RefreshTokenClaims(String.valueOf(memberId1), null, null);
+
+        // when
+        String refreshToken = refreshTokenService.rotate(legacyClaims);
+
+        // then
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        assertThat(refreshTokenFamilyStore.findById(claims.getFamilyId())).isPresent();
+    }
+}
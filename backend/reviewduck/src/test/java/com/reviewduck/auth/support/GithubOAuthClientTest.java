@@ -0,0 +1,182 @@
+package com.reviewduck.auth.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.auth.dto.response.GithubMemberResponse;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.config.http.OutboundHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GithubOAuthClientTest {
+
+    private static final String TOKEN_RESPONSE = "{\"access_token\":\"github-token\",\"token_type\":\"bearer\"}";
+    private static final String MEMBER_RESPONSE =
+        "{\"id\":\"1\",\"login\":\"panda\",\"name\":\"제이슨\",\"avatar_url\":\"profileUrl\",\"type\":\"User\"}";
+
+    private final AtomicReference<String> tokenRequestBody = new AtomicReference<>();
+    private final AtomicReference<String> authorizationHeader = new AtomicReference<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("인증 코드로 액세스 토큰을 받은 뒤 그 토큰으로 깃허브 유저 정보를 가져온다.")
+    void fetchMember() throws Exception {
+        // given
+        server.createContext("/login/oauth/access_token", exchange -> {
+            tokenRequestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, TOKEN_RESPONSE);
+        });
+        server.createContext("/user", exchange -> {
+            authorizationHeader.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, 200, MEMBER_RESPONSE);
+        });
+
+        // when
+        GithubMemberResponse member = createClient(1000, 10).fetchMember("code").get();
+
+        // then
+        assertAll(
+            () -> assertThat(member.getSocialId()).isEqualTo("1"),
+            () -> assertThat(member.getSocialNickname()).isEqualTo("panda"),
+            () -> assertThat(tokenRequestBody.get()).contains("\"client_id\":\"clientId\"", "\"code\":\"code\""),
+            () -> assertThat(authorizationHeader.get()).isEqualTo("token github-token")
+        );
+    }
+
+    @Test
+    @DisplayName("인증 코드가 올바르지 않으면 로그인에 실패한다.")
+    void failToFetchAccessToken() {
+        // given
+        server.createContext("/login/oauth/access_token",
+            exchange -> respond(exchange, 200, "{\"error\":\"bad_verification_code\"}"));
+
+        // when
+        CompletableFuture<GithubMemberResponse> member = createClient(1000, 10).fetchMember("code");
+
+        // then
+        assertFailure(member, "깃허브 로그인이 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("깃허브 유저 정보 응답이 실패하면 로그인에 실패한다.")
+    void failToFetchMember() {
+        // given
+        server.createContext("/login/oauth/access_token", exchange -> respond(exchange, 200, TOKEN_RESPONSE));
+        server.createContext("/user", exchange -> respond(exchange, 401, "{\"message\":\"Bad credentials\"}"));
+
+        // when
+        CompletableFuture<GithubMemberResponse> member = createClient(1000, 10).fetchMember("code");
+
+        // then
+        assertFailure(member, "깃허브 유저 정보 가져오기가 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("깃허브 응답이 제한 시간 안에 오지 않으면 로그인에 실패한다.")
+    void timeout() {
+        // given
+        server.createContext("/login/oauth/access_token", exchange -> {
+            await();
+            respond(exchange, 200, TOKEN_RESPONSE);
+        });
+
+        // when
+        CompletableFuture<GithubMemberResponse> member = createClient(200, 10).fetchMember("code");
+
+        // then
+        assertFailure(member, "깃허브 서버와 통신하지 못했습니다.");
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 로그인 수가 제한을 넘으면 기다리지 않고 실패하고, 끝난 로그인의 자리는 다시 쓸 수 있다.")
+    void limitConcurrency() throws Exception {
+        // given
+        server.createContext("/login/oauth/access_token", exchange -> {
+            await();
+            respond(exchange, 200, TOKEN_RESPONSE);
+        });
+        server.createContext("/user", exchange -> respond(exchange, 200, MEMBER_RESPONSE));
+        GithubOAuthClient client = createClient(5000, 1);
+        CompletableFuture<GithubMemberResponse> inProgress = client.fetchMember("code");
+
+        // when
+        CompletableFuture<GithubMemberResponse> rejected = client.fetchMember("code");
+        release.countDown();
+        inProgress.get();
+
+        // then
+        assertAll(
+            () -> assertFailure(rejected, "깃허브 로그인 요청이 많습니다."),
+            () -> assertThat(client.fetchMember("code").get().getSocialId()).isEqualTo("1")
+        );
+    }
+
+    private GithubOAuthClient createClient(long readTimeoutMillis, int maxConcurrency) {
+        String baseUri = "http://localhost:" + server.getAddress().getPort();
+        OutboundHttpClient outboundHttpClient = new OutboundHttpClient(new SimpleMeterRegistry(),
+            ForkJoinPool.commonPool(), Duration.ofSeconds(1), Duration.ofMillis(readTimeoutMillis), 10, 0, 1);
+        return new GithubOAuthClient(outboundHttpClient, new ObjectMapper(), "clientId", "clientSecret",
+            baseUri + "/login/oauth/access_token", baseUri + "/user", maxConcurrency);
+    }
+
+    private void assertFailure(CompletableFuture<GithubMemberResponse> member, String message) {
+        assertThatThrownBy(member::get)
+            .isInstanceOf(ExecutionException.class)
+            .getCause()
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining(message);
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reviewduck.auth.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.reviewduck.auth.exception.AuthorizationException;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "access-token-secret-key-for-test-access-token";
+    private static final String REFRESH_SECRET_KEY = "refresh-token-secret-key-for-test-refresh-token";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(60_000, 60_000, SECRET_KEY,
+        REFRESH_SECRET_KEY, 100);
+
+    @Test
+    @DisplayName("access token 을 검증하고 subject 와 만료 시각을 반환한다.")
+    void parseAccessToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("1");
+
+        // when
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+
+        // then
+        assertAll(
+            () -> assertThat(claims.getSubject()).isEqualTo("1"),
+            () -> assertThat(claims.isExpired(System.currentTimeMillis())).isFalse(),
+            () -> assertThat(jwtTokenProvider.parseAccessToken(token)).isSameAs(claims)
+        );
+    }
+
+    @Test
+    @DisplayName("검증된 token 을 변조한 token 은 캐시에 적중하지 않고 거부된다.")
+    void rejectTamperedToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("1");
+        jwtTokenProvider.parseAccessToken(token);
+        String otherToken = jwtTokenProvider.createAccessToken("2");
+        String tampered = otherToken.substring(0, otherToken.lastIndexOf('.'))
+            + token.substring(token.lastIndexOf('.'));
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(tampered))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("refresh token 은 access token 으로 검증되지 않는다.")
+    void rejectRefreshToken() {
+        // given
+        String refreshToken = jwtTokenProvider.createRefreshToken("1", "family", "token",
+            jwtTokenProvider.getRefreshTokenExpiresAtMillis(System.currentTimeMillis()));
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(refreshToken))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("refresh token 에서 subject 와 계열, token id 를 읽는다.")
+    void parseRefreshToken() {
+        // given
+        String refreshToken = jwtTokenProvider.createRefreshToken("1", "family", "token",
+            jwtTokenProvider.getRefreshTokenExpiresAtMillis(System.currentTimeMillis()));
+
+        // when
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        // then
+        assertAll(
+            () -> assertThat(claims.getSubject()).isEqualTo("1"),
+            () -> assertThat(claims.getFamilyId()).isEqualTo("family"),
+            () -> assertThat(claims.getTokenId()).isEqualTo("token")
+        );
+    }
+
+    @Test
+    @DisplayName("access token 은 refresh token 으로 검증되지 않는다.")
+    void rejectAccessTokenAsRefreshToken() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken("1");
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.parseRefreshToken(accessToken))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("검증된 token 도 만료되면 거부된다.")
+    void rejectExpiredToken() throws InterruptedException {
+        // given
+        JwtTokenProvider shortLivedTokenProvider = new JwtTokenProvider(1_500, 60_000, SECRET_KEY,
+            REFRESH_SECRET_KEY, 100);
+        String token = shortLivedTokenProvider.createAccessToken("1");
+        shortLivedTokenProvider.parseAccessToken(token);
+
+        // when
+        Thread.sleep(1_600);
+
+        // then
+        assertThatThrownBy(() -> shortLivedTokenProvider.parseAccessToken(token))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 access token 을 한 번만 검증한다.")
+    void parseOncePerRequest() {
+        // given
+        JwtTokenProvider provider = spy(jwtTokenProvider);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.createAccessToken("1"));
+
+        // when
+        AccessTokenClaims first = AccessTokenAttribute.resolve(request, provider);
+        AccessTokenClaims second = AccessTokenAttribute.resolve(request, provider);
+
+        // then
+        assertAll(
+            () -> assertThat(second).isSameAs(first),
+            () -> verify(provider, times(1)).parseAccessToken(anyString())
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.reviewduck.common.acceptance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+import com.reviewduck.common.dto.CacheMetricsResponse;
+import com.reviewduck.common.dto.CacheMetricsSummaryResponse;
+import com.reviewduck.config.cache.CacheType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class CacheAcceptanceTest extends AcceptanceTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("캐시 이름으로 Cache Metric을 조회한다.")
+    void findCacheMetrics() {
+        // when
+        CacheMetricsResponse response = get("/metrics/cache/templateCacheStore")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(CacheMetricsResponse.class);
+
+        // then
+        assertThat(response.getCacheName()).isEqualTo("templateCacheStore");
+    }
+
+    @Test
+    @DisplayName("기존의 짧은 이름으로도 Cache Metric을 조회한다.")
+    void findCacheMetricsByShortName() {
+        // when
+        CacheMetricsResponse response = get("/metrics/cache/member")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(CacheMetricsResponse.class);
+
+        // then
+        assertThat(response.getCacheName()).isEqualTo("memberCacheStore");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 캐시의 Metric은 조회할 수 없다.")
+    void failToFindCacheMetrics() {
+        // when, then
+        get("/metrics/cache/unknown")
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("모든 캐시의 Metric 요약을 조회한다.")
+    void findCacheMetricsSummary() {
+        // when
+        CacheMetricsSummaryResponse response = get("/metrics/cache")
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .as(CacheMetricsSummaryResponse.class);
+
+        // then
+        assertThat(response.getCaches()).hasSize(CacheType.values().length);
+    }
+
+    @Test
+    @DisplayName("모든 캐시가 MeterRegistry 에 등록된다.")
+    void bindCacheMetrics() {
+        // when, then
+        assertAll(
+            () -> assertThat(meterRegistry.find("cache.gets").tag("cache", "memberCacheStore").meters()).isNotEmpty(),
+            () -> assertThat(meterRegistry.find("cache.gets").tag("cache", "templateCacheStore").meters()).isNotEmpty(),
+            () -> assertThat(meterRegistry.find("cache.size").tag("cache", "templatesCacheStore").gauge()).isNotNull()
+        );
+    }
+}
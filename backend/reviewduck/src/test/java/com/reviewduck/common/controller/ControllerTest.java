@@ -15,9 +15,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.controller.AuthController;
 import com.reviewduck.auth.service.AuthService;
+import com.reviewduck.auth.support.AccessTokenClaims;
 import com.reviewduck.auth.support.JwtTokenProvider;
 import com.reviewduck.member.controller.MemberController;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.member.service.MemberService;
 import com.reviewduck.review.controller.ReviewController;
 import com.reviewduck.review.controller.ReviewFormController;
@@ -56,7 +58,9 @@ public class ControllerTest {
     @BeforeEach
     void createMemberAndGetAccessToken() {
         Optional<Member> member = Optional.of(new Member(1L, "1", "panda", "제이슨", "profileUrl"));
-        when(jwtTokenProvider.getAccessTokenPayload(anyString())).thenReturn("1");
+        when(jwtTokenProvider.parseAccessToken(anyString()))
+            .thenReturn(new AccessTokenClaims("1", Long.MAX_VALUE));
         when(memberService.findById(anyLong())).thenReturn(member.get());
+        when(memberService.findPrincipal(anyLong())).thenReturn(MemberDto.from(member.get()));
     }
 }
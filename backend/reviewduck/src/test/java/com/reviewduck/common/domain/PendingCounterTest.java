@@ -0,0 +1,122 @@
+package com.reviewduck.common.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PendingCounterTest {
+
+    private final PendingCounter pendingCounter = new PendingCounter();
+
+    @Test
+    @DisplayName("반영되지 않은 개수를 누적한다.")
+    void increase() {
+        // when
+        pendingCounter.increase(1L, 10);
+        long pendingCount = pendingCounter.increase(1L, 20);
+
+        // then
+        assertAll(
+            () -> assertThat(pendingCount).isEqualTo(30),
+            () -> assertThat(pendingCounter.getPendingCount(1L)).isEqualTo(30),
+            () -> assertThat(pendingCounter.getPendingCount(2L)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("누적된 개수를 꺼내면 초기화된다.")
+    void drain() {
+        // given
+        pendingCounter.increase(1L, 10);
+        pendingCounter.increase(2L, 20);
+
+        // when
+        Map<Long, Long> drained = pendingCounter.drain();
+
+        // then
+        assertAll(
+            () -> assertThat(drained).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 10L, 2L, 20L)),
+            () -> assertThat(pendingCounter.getPendingCount(1L)).isZero(),
+            () -> assertThat(pendingCounter.drain()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("꺼낼 개수가 없던 id 는 제거한다.")
+    void removeIdleId() {
+        // given
+        pendingCounter.increase(1L, 10);
+        pendingCounter.increase(2L, 20);
+        pendingCounter.drain();
+        pendingCounter.increase(2L, 5);
+
+        // when
+        Map<Long, Long> drained = pendingCounter.drain();
+
+        // then
+        assertAll(
+            () -> assertThat(drained).containsExactlyEntriesOf(Map.of(2L, 5L)),
+            () -> assertThat(pendingCounter.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("꺼내면서 제거하는 도중에 더해도 유실되거나 두 번 세어지지 않는다.")
+    void concurrentIncreaseAndRemove() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        int requestCount = 100_000;
+        long drainedCount = 0;
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            long id = i % 4;
+            executorService.submit(() -> pendingCounter.increase(id, 1));
+            if (i % 100 == 0) {
+                drainedCount += sum(pendingCounter.drain());
+            }
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        drainedCount += sum(pendingCounter.drain());
+
+        // then
+        assertThat(drainedCount).isEqualTo(requestCount);
+    }
+
+    @Test
+    @DisplayName("동시에 더하고 꺼내도 유실되지 않는다.")
+    void concurrentIncreaseAndDrain() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        int requestCount = 10_000;
+        long drainedCount = 0;
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> pendingCounter.increase(1L, 1));
+            if (i % 1000 == 0) {
+                drainedCount += pendingCounter.drain().getOrDefault(1L, 0L);
+            }
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        drainedCount += pendingCounter.drain().getOrDefault(1L, 0L);
+
+        // then
+        assertThat(drainedCount).isEqualTo(requestCount);
+    }
+
+    private long sum(Map<Long, Long> drained) {
+        return drained.values().stream()
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+}
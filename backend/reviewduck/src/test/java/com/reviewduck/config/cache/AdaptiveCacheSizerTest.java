@@ -0,0 +1,124 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveCacheSizerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<Double> heapUsage = new AtomicReference<>(0.5);
+
+    private SimpleCacheManager cacheManager;
+    private AdaptiveCacheSizer adaptiveCacheSizer;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Arrays.stream(CacheType.values())
+            .map(CacheType::buildCache)
+            .collect(Collectors.toUnmodifiableList()));
+        cacheManager.initializeCaches();
+
+        adaptiveCacheSizer = new AdaptiveCacheSizer(cacheManager, meterRegistry, 0.9, 100, 0.7, 0.85,
+            heapUsage::get);
+    }
+
+    @Test
+    @DisplayName("축출이 일어나고 적중률이 낮은 캐시는 키운다.")
+    void growThrashingCache() {
+        // given
+        Cache<Object, Object> memberCache = CacheType.MemberCache.getNativeCache(cacheManager);
+        thrash(memberCache, 300);
+
+        // when
+        adaptiveCacheSizer.resize();
+
+        // then
+        assertAll(
+            () -> assertThat(getMaximum(memberCache)).isEqualTo(225),
+            () -> assertThat(meterRegistry.find("cache.resize")
+                .tags("cache", "memberCacheStore", "direction", "grow")
+                .counter().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("힙 사용률이 높으면 캐시를 키우지 않는다.")
+    void notGrowUnderHeapPressure() {
+        // given
+        Cache<Object, Object> memberCache = CacheType.MemberCache.getNativeCache(cacheManager);
+        thrash(memberCache, 300);
+        heapUsage.set(0.8);
+
+        // when
+        adaptiveCacheSizer.resize();
+
+        // then
+        assertThat(getMaximum(memberCache)).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("힙 사용률이 상한을 넘으면 최소 크기까지만 줄인다.")
+    void shrinkWithinBounds() {
+        // given
+        Cache<Object, Object> templatesCache = CacheType.TemplatesCache.getNativeCache(cacheManager);
+        heapUsage.set(0.9);
+
+        // when
+        adaptiveCacheSizer.resize();
+        adaptiveCacheSizer.resize();
+        adaptiveCacheSizer.resize();
+
+        // then
+        assertThat(getMaximum(templatesCache)).isEqualTo(CacheType.TemplatesCache.getMinSizeLimit());
+    }
+
+    @Test
+    @DisplayName("절반도 채우지 못한 캐시는 사용량에 맞춰 줄인다.")
+    void shrinkUnderusedCache() {
+        // given
+        Cache<Object, Object> templateCache = CacheType.TemplateCache.getNativeCache(cacheManager);
+        for (long key = 0; key < 10; key++) {
+            templateCache.put(key, "value");
+        }
+
+        // when
+        adaptiveCacheSizer.resize();
+
+        // then
+        assertThat(getMaximum(templateCache)).isEqualTo(225);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 게이지로 노출한다.")
+    void exposeMaximum() {
+        // when, then
+        assertThat(meterRegistry.find("cache.max.size").tag("cache", "memberCacheStore").gauge().value())
+            .isEqualTo(150);
+    }
+
+    private void thrash(Cache<Object, Object> cache, int keyCount) {
+        for (long key = 0; key < keyCount; key++) {
+            cache.get(key, ignored -> "value");
+        }
+        cache.cleanUp();
+    }
+
+    private long getMaximum(Cache<Object, Object> cache) {
+        return cache.policy().eviction().orElseThrow().getMaximum();
+    }
+}
@@ -0,0 +1,125 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.reviewduck.template.vo.TemplateSortType;
+
+class CacheKeyTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 10, 11, 0", "11, 1, 1, 11", "0, 11, 1, 1", "12, 3, 1, 23"})
+    @DisplayName("문자열로 이으면 같아지는 페이지 번호와 크기도 다른 키가 된다.")
+    void pageKeysDoNotCollide(int page1, int size1, int page2, int size2) {
+        // when
+        CacheKey key1 = CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, TemplateSortType.LATEST, page1, size1);
+        CacheKey key2 = CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, TemplateSortType.LATEST, page2, size2);
+
+        // then
+        assertThat(key1).isNotEqualTo(key2);
+    }
+
+    @Test
+    @DisplayName("페이지 번호, 크기, 정렬 기준의 조합마다 서로 다른 키가 된다.")
+    void allPageKeysAreDistinct() {
+        // given
+        Set<CacheKey> keys = new HashSet<>();
+        int count = 0;
+
+        // when
+        for (TemplateSortType sortType : TemplateSortType.values()) {
+            for (int page = -1; page < 100; page++) {
+                for (int size = -1; size < 100; size++) {
+                    keys.add(CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, sortType, page, size));
+                    count++;
+                }
+            }
+        }
+
+        // then
+        assertThat(keys).hasSize(count);
+    }
+
+    @Test
+    @DisplayName("같은 값이라도 대상 타입이 다르면 다른 키가 된다.")
+    void typedKeysDoNotCollide() {
+        // when, then
+        assertAll(
+            () -> assertThat(CacheKey.of(CacheKeyType.MEMBER, 1L))
+                .isNotEqualTo(CacheKey.of(CacheKeyType.ADMIN_MEMBER, 1L)),
+            () -> assertThat(CacheKey.ofPage(CacheKeyType.TEMPLATE_SEARCH, "", 0, 10))
+                .isNotEqualTo(CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, TemplateSortType.LATEST, 0, 10)),
+            () -> assertThat(CacheKey.of(CacheKeyType.MEMBER, 1L))
+                .isEqualTo(CacheKey.of(CacheKeyType.MEMBER, 1L))
+                .hasSameHashCodeAs(CacheKey.of(CacheKeyType.MEMBER, 1L))
+        );
+    }
+
+    @Test
+    @DisplayName("노드 사이에서 주고받을 수 있도록 인코딩한 키를 그대로 복원한다.")
+    void encodeAndDecode() {
+        // given
+        CacheKey listKey = CacheKey.ofPage(CacheKeyType.TEMPLATE_LIST, TemplateSortType.TREND, 3, 20);
+        CacheKey searchKey = CacheKey.ofPage(CacheKeyType.TEMPLATE_SEARCH, "회고:템플릿", 0, 10);
+        CacheKey emptySearchKey = CacheKey.ofPage(CacheKeyType.TEMPLATE_SEARCH, "", 0, 10);
+
+        // when, then
+        assertAll(
+            () -> assertThat(CacheKeyCodec.encode(listKey).flatMap(CacheKeyCodec::decode)).contains(listKey),
+            () -> assertThat(CacheKeyCodec.encode(searchKey).flatMap(CacheKeyCodec::decode)).contains(searchKey),
+            () -> assertThat(CacheKeyCodec.encode(emptySearchKey).flatMap(CacheKeyCodec::decode))
+                .contains(emptySearchKey)
+        );
+    }
+
+    @Test
+    @DisplayName("이름이나 속성 경로로 찾은 파라미터로 같은 키를 만든다.")
+    void generateFromParameterPath() throws NoSuchMethodException {
+        // given
+        CompactKeyGenerator keyGenerator = new CompactKeyGenerator(CacheKeyType.MEMBER, "memberId", "member.id");
+        Method byId = KeySource.class.getDeclaredMethod("findById", String.class, long.class);
+        Method byMember = KeySource.class.getDeclaredMethod("update", LoginMember.class);
+
+        // when
+        Object idKey = keyGenerator.generate(new KeySource(), byId, "ignored", 1L);
+        Object memberKey = keyGenerator.generate(new KeySource(), byMember, new LoginMember(1L));
+
+        // then
+        assertAll(
+            () -> assertThat(idKey).isEqualTo(CacheKey.of(CacheKeyType.MEMBER, 1L)),
+            () -> assertThat(memberKey).isEqualTo(idKey)
+        );
+    }
+
+    @SuppressWarnings("unused")
+    private static class KeySource {
+
+        void findById(String nickname, long memberId) {
+        }
+
+        void update(LoginMember member) {
+        }
+    }
+
+    private static class LoginMember {
+
+        private final long id;
+
+        LoginMember(long id) {
+            this.id = id;
+        }
+
+        public long getId() {
+            return id;
+        }
+    }
+}
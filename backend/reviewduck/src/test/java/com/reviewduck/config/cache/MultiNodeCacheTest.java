@@ -0,0 +1,213 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reviewduck.ReviewduckApplication;
+
+/*
+    같은 데이터베이스를 바라보는 두 애플리케이션 컨텍스트로 여러 노드 환경을 재현한다.
+ */
+class MultiNodeCacheTest {
+
+    private static ConfigurableApplicationContext node1;
+    private static ConfigurableApplicationContext node2;
+
+    @BeforeAll
+    static void startNodes() {
+        node1 = startNode();
+        node2 = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        node1.close();
+        node2.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(ReviewduckApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("cache.invalidation.poll-delay-millis=3600000")
+            .run();
+    }
+
+    @BeforeEach
+    void setUp() {
+        poll(node1);
+        poll(node2);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 키를 무효화하면 다른 노드의 같은 키도 무효화된다.")
+    void evictOnOtherNode() {
+        // given
+        getCache(node1, "templateCacheStore").put(1L, "template1");
+        getCache(node2, "templateCacheStore").put(1L, "template1");
+        getCache(node2, "templateCacheStore").put(2L, "template2");
+
+        // when
+        getCache(node1, "templateCacheStore").evict(1L);
+        poll(node2);
+
+        // then
+        assertAll(
+            () -> assertThat(getCache(node1, "templateCacheStore").get(1L)).isNull(),
+            () -> assertThat(getCache(node2, "templateCacheStore").get(1L)).isNull(),
+            () -> assertThat(getCache(node2, "templateCacheStore").get(2L)).isNotNull()
+        );
+    }
+
+    @Test
+    @DisplayName("한 노드에서 캐시를 비우면 다른 노드의 같은 캐시도 비워진다.")
+    void clearOnOtherNode() {
+        // given
+        getCache(node2, "templatesCacheStore").put("010latest", "templates");
+        getCache(node2, "memberCacheStore").put(1L, "member");
+
+        // when
+        getCache(node1, "templatesCacheStore").clear();
+        poll(node2);
+
+        // then
+        assertAll(
+            () -> assertThat(getCache(node2, "templatesCacheStore").get("010latest")).isNull(),
+            () -> assertThat(getCache(node2, "memberCacheStore").get(1L)).isNotNull()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 노드가 저장한 값을 공유 저장소에서 읽어 로컬 캐시를 채운다.")
+    void readThroughSharedStore() {
+        // given
+        getCache(node1, "templateCacheStore").put(3L, "template3");
+
+        // when
+        Cache.ValueWrapper value = getCache(node2, "templateCacheStore").get(3L);
+
+        // then
+        assertAll(
+            () -> assertThat(value).isNotNull(),
+            () -> assertThat(value.get()).isEqualTo("template3"),
+            () -> assertThat(getLocalCache(node2, "templateCacheStore").getIfPresent(3L)).isEqualTo("template3")
+        );
+    }
+
+    @Test
+    @DisplayName("인증 사용자 캐시는 공유 저장소에 두지 않고, 무효화만 다른 노드에 전파한다.")
+    void keepPrincipalCacheLocal() {
+        // given
+        getCache(node1, "memberPrincipalCacheStore").put(5L, "principal5");
+        getCache(node2, "memberPrincipalCacheStore").put(6L, "principal6");
+        Cache.ValueWrapper valueFromOtherNode = getCache(node2, "memberPrincipalCacheStore").get(5L);
+
+        // when
+        getCache(node1, "memberPrincipalCacheStore").evict(6L);
+        poll(node2);
+
+        // then
+        assertAll(
+            () -> assertThat(valueFromOtherNode).isNull(),
+            () -> assertThat(getCache(node2, "memberPrincipalCacheStore").get(6L)).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("도메인 이벤트는 캐시 무효화와 구분해 다른 노드의 이벤트 구독자에게만 전달한다.")
+    void deliverDomainEvent() {
+        // given
+        List<DomainEvent> receivedByNode1 = new CopyOnWriteArrayList<>();
+        List<DomainEvent> receivedByNode2 = new CopyOnWriteArrayList<>();
+        getBus(node1).subscribeEvent(receivedByNode1::add);
+        getBus(node2).subscribeEvent(receivedByNode2::add);
+
+        // when
+        getBus(node1).publishEvent(DomainEvent.of(DomainEventType.TEMPLATE_UPDATED, 7L));
+        poll(node1);
+        poll(node2);
+
+        // then
+        assertAll(
+            () -> assertThat(receivedByNode1).isEmpty(),
+            () -> assertThat(receivedByNode2).hasSize(1),
+            () -> assertThat(receivedByNode2.get(0).getType()).isEqualTo(DomainEventType.TEMPLATE_UPDATED),
+            () -> assertThat(receivedByNode2.get(0).getTargetId()).isEqualTo(7L)
+        );
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 무효화는 다시 적용하지 않는다.")
+    void ignoreOwnInvalidation() {
+        // given
+        Cache cache = getCache(node1, "memberCacheStore");
+        cache.evict("socialId");
+        cache.put("socialId", "member");
+
+        // when
+        poll(node1);
+
+        // then
+        assertThat(cache.get("socialId")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("나중에 발급된 id 보다 늦게 커밋된 무효화도 반영한다.")
+    void applyLateCommittedInvalidation() {
+        // given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(node1.getBean("sourceDataSource", DataSource.class));
+        getCache(node2, "templateCacheStore").put(4L, "template4");
+        long lateId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from cache_invalidation",
+            Long.class);
+        insertInvalidation(jdbcTemplate, lateId + 1, "templatesCacheStore", null);
+        poll(node2);
+
+        // when
+        insertInvalidation(jdbcTemplate, lateId, "templateCacheStore", CacheKeyCodec.encode(4L).orElseThrow());
+        poll(node2);
+
+        // then
+        assertThat(getLocalCache(node2, "templateCacheStore").getIfPresent(4L)).isNull();
+    }
+
+    private void insertInvalidation(JdbcTemplate jdbcTemplate, long id, String cacheName, String cacheKey) {
+        jdbcTemplate.update("insert into cache_invalidation (id, node_id, cache_name, cache_key, created_at) "
+            + "values (?, 'other-node', ?, ?, ?)", id, cacheName, cacheKey, new Timestamp(System.currentTimeMillis()));
+    }
+
+    private static void poll(ConfigurableApplicationContext node) {
+        getBus(node).poll();
+    }
+
+    private static JdbcCacheInvalidationBus getBus(ConfigurableApplicationContext node) {
+        return node.getBean(JdbcCacheInvalidationBus.class);
+    }
+
+    private Cache getCache(ConfigurableApplicationContext node, String cacheName) {
+        return Objects.requireNonNull(node.getBean(CacheManager.class).getCache(cacheName));
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> getLocalCache(
+        ConfigurableApplicationContext node, String cacheName) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>)getCache(node, cacheName).getNativeCache();
+    }
+}
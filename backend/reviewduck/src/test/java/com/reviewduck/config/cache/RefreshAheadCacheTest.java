@@ -0,0 +1,168 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class RefreshAheadCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 번만 불러온다.")
+    void loadOnceOnConcurrentMiss() throws InterruptedException {
+        // given
+        RefreshAheadCache cache = createCache(Runnable::run);
+        int threadCount = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return cache.get("key", () -> {
+                    Thread.sleep(100);
+                    return load();
+                });
+            }));
+        }
+        start.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+            () -> assertThat(loadCount.get()).isEqualTo(1),
+            () -> assertThat(futures).allSatisfy(future -> assertThat(future.get()).isEqualTo("value1"))
+        );
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지난 값은 기존 값을 돌려주고 백그라운드에서 다시 불러온다.")
+    void refreshAhead() {
+        // given
+        RefreshAheadCache cache = createCache(Runnable::run);
+        cache.get("key", this::load);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // when
+        String value = cache.get("key", this::load);
+
+        // then
+        assertAll(
+            () -> assertThat(value).isEqualTo("value1"),
+            () -> assertThat(cache.get("key", String.class)).isEqualTo("value2"),
+            () -> assertThat(loadCount.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("갱신 시점 전에는 다시 불러오지 않는다.")
+    void notRefreshBeforeRefreshTime() {
+        // given
+        RefreshAheadCache cache = createCache(Runnable::run);
+        cache.get("key", this::load);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        cache.get("key", this::load);
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get("key", String.class)).isEqualTo("value1"),
+            () -> assertThat(loadCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("갱신 중 무효화된 값은 다시 저장하지 않는다.")
+    void skipEvictedDuringRefresh() {
+        // given
+        RefreshAheadCache cache = createCache(Runnable::run);
+        cache.get("key", this::load);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // when
+        cache.get("key", () -> {
+            cache.evict("key");
+            return load();
+        });
+
+        // then
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("남은 만료 시간이 짧게 지정된 값은 바로 갱신한다.")
+    void refreshEntryWithShortTimeToLive() {
+        // given
+        RefreshAheadCache cache = createCache(Runnable::run);
+        cache.get("key", this::load);
+        getNativeCache(cache).policy().expireVariably()
+            .orElseThrow()
+            .setExpiresAfter("key", 5, TimeUnit.SECONDS);
+
+        // when
+        String value = cache.get("key", this::load);
+
+        // then
+        assertAll(
+            () -> assertThat(value).isEqualTo("value1"),
+            () -> assertThat(cache.get("key", String.class)).isEqualTo("value2")
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키의 갱신은 한 번에 하나만 실행한다.")
+    void refreshOnce() {
+        // given
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RefreshAheadCache cache = createCache(pendingRefreshes::add);
+        cache.get("key", this::load);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // when
+        cache.get("key", this::load);
+        cache.get("key", this::load);
+
+        // then
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    private String load() {
+        return "value" + loadCount.incrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache(RefreshAheadCache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>)cache.getNativeCache();
+    }
+
+    private RefreshAheadCache createCache(Executor executor) {
+        CaffeineCache localCache = new CaffeineCache("cache", Caffeine.newBuilder()
+            .expireAfter(new TimeToLiveExpiry(Duration.ofSeconds(60)))
+            .ticker(nanos::get)
+            .build());
+        return new RefreshAheadCache(localCache, Duration.ofSeconds(12), executor);
+    }
+}
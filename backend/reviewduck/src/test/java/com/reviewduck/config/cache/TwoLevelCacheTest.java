@@ -0,0 +1,168 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class TwoLevelCacheTest {
+
+    private final InMemorySharedCacheStore sharedCacheStore = new InMemorySharedCacheStore();
+
+    @Test
+    @DisplayName("로컬 캐시에 없는 값은 공유 저장소에서 읽어 로컬 캐시를 채운다.")
+    void readThrough() {
+        // given
+        TwoLevelCache writer = createCache();
+        TwoLevelCache reader = createCache();
+        writer.put(1L, "value");
+
+        // when
+        String value = reader.get(1L, String.class);
+
+        // then
+        assertAll(
+            () -> assertThat(value).isEqualTo("value"),
+            () -> assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>)reader.getNativeCache())
+                .getIfPresent(1L)).isEqualTo("value")
+        );
+    }
+
+    @Test
+    @DisplayName("키를 무효화하면 공유 저장소에서도 지운다.")
+    void evict() {
+        // given
+        TwoLevelCache cache = createCache();
+        cache.put("key", "value");
+
+        // when
+        cache.evict("key");
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get("key")).isNull(),
+            () -> assertThat(sharedCacheStore.get("cache", "S:key")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("직렬화할 수 없는 값은 로컬 캐시에만 저장한다.")
+    void skipNotSerializableValue() {
+        // given
+        TwoLevelCache cache = createCache();
+        Object value = new Object();
+
+        // when
+        cache.put(1L, value);
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L).get()).isSameAs(value),
+            () -> assertThat(sharedCacheStore.get("cache", "L:1")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("값을 불러와 두 단계 캐시에 모두 저장한다.")
+    void getWithValueLoader() {
+        // given
+        TwoLevelCache cache = createCache();
+
+        // when
+        String value = cache.get(1L, () -> "loaded");
+
+        // then
+        assertAll(
+            () -> assertThat(value).isEqualTo("loaded"),
+            () -> assertThat(createCache().get(1L, String.class)).isEqualTo("loaded")
+        );
+    }
+
+    @Test
+    @DisplayName("공유 저장소에서 가져온 값은 공유 저장소에 남은 만료 시간까지만 로컬 캐시에 둔다.")
+    void keepSharedTimeToLive() {
+        // given
+        TwoLevelCache reader = createCache();
+        byte[] value = CacheValueSerializer.serialize("value").orElseThrow();
+        sharedCacheStore.put("cache", "L:1", value, Duration.ofSeconds(10));
+        sharedCacheStore.put("cache", "L:2", value, Duration.ofSeconds(10));
+
+        // when
+        reader.get(1L);
+        reader.get(2L, () -> "loaded");
+
+        // then
+        assertAll(
+            () -> assertThat(getExpiresAfterSeconds(reader, 1L)).isLessThanOrEqualTo(10),
+            () -> assertThat(getExpiresAfterSeconds(reader, 2L)).isLessThanOrEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 클래스의 값은 공유 저장소에서 복원하지 않는다.")
+    void skipNotAllowedClass() {
+        // given
+        TwoLevelCache writer = createCache();
+        TwoLevelCache reader = createCache();
+        writer.put(1L, URI.create("https://reviewduck.com"));
+
+        // when
+        Cache.ValueWrapper value = reader.get(1L);
+
+        // then
+        assertThat(value).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getExpiresAfterSeconds(TwoLevelCache cache, Object key) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>)cache.getNativeCache()).policy()
+            .expireVariably()
+            .orElseThrow()
+            .getExpiresAfter(key, TimeUnit.SECONDS)
+            .orElseThrow();
+    }
+
+    private TwoLevelCache createCache() {
+        CaffeineCache localCache = new CaffeineCache("cache", Caffeine.newBuilder()
+            .expireAfter(new TimeToLiveExpiry(Duration.ofMinutes(1)))
+            .build());
+        return new TwoLevelCache(localCache, sharedCacheStore, Duration.ofMinutes(1));
+    }
+
+    private static class InMemorySharedCacheStore implements SharedCacheStore {
+
+        private final Map<String, SharedCacheEntry> values = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<SharedCacheEntry> get(String cacheName, String key) {
+            return Optional.ofNullable(values.get(cacheName + "/" + key));
+        }
+
+        @Override
+        public void put(String cacheName, String key, byte[] value, Duration timeToLive) {
+            values.put(cacheName + "/" + key, new SharedCacheEntry(value, timeToLive));
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            values.remove(cacheName + "/" + key);
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            values.keySet().removeIf(key -> key.startsWith(cacheName + "/"));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DataSourceRoutingContextInterceptorTest {
+
+    private final DataSourceRoutingContextInterceptor interceptor = new DataSourceRoutingContextInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 스레드의 라우팅 컨텍스트를 비운다.")
+    void clearOnAsyncStarted() {
+        // given
+        DataSourceRoutingContext.setMemberId(1L);
+
+        // when
+        interceptor.afterConcurrentHandlingStarted(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            null);
+
+        // then
+        assertThat(DataSourceRoutingContext.getMemberId()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 라우팅 컨텍스트를 비운다.")
+    void clearOnCompletion() {
+        // given
+        DataSourceRoutingContext.setMemberId(1L);
+
+        // when
+        interceptor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(DataSourceRoutingContext.getMemberId()).isNull();
+    }
+}
@@ -3,6 +3,17 @@ package com.reviewduck.config.datasource;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +34,102 @@ class DataSourceSelectorTest {
             () -> assertThat(dataSourceSelector.getOne()).isEqualTo(firstValue)
         );
     }
+
+    @Test
+    @DisplayName("가중치 비율대로 고르게 섞어서 선택한다.")
+    void getOneByWeight() {
+        //given
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("replica1", 2);
+        weights.put("replica2", 1);
+        weights.put("source", 1);
+        DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(weights, "source");
+
+        //when
+        List<String> selected = IntStream.range(0, 8)
+            .mapToObj(i -> dataSourceSelector.getOne())
+            .collect(Collectors.toUnmodifiableList());
+
+        //then
+        assertAll(
+            () -> assertThat(selected.subList(0, 4)).containsExactly("replica1", "replica2", "source", "replica1"),
+            () -> assertThat(selected.subList(4, 8)).isEqualTo(selected.subList(0, 4))
+        );
+    }
+
+    @Test
+    @DisplayName("제외된 데이터소스는 선택하지 않고, 다시 포함되면 선택한다.")
+    void ejectAndReadmit() {
+        //given
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("replica1", 1);
+        weights.put("replica2", 1);
+        DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(weights, "source");
+
+        //when
+        dataSourceSelector.eject("replica1");
+        List<String> whileEjected = IntStream.range(0, 4)
+            .mapToObj(i -> dataSourceSelector.getOne())
+            .collect(Collectors.toUnmodifiableList());
+
+        dataSourceSelector.readmit("replica1");
+        List<String> afterReadmit = IntStream.range(0, 4)
+            .mapToObj(i -> dataSourceSelector.getOne())
+            .collect(Collectors.toUnmodifiableList());
+
+        //then
+        assertAll(
+            () -> assertThat(whileEjected).containsOnly("replica2"),
+            () -> assertThat(afterReadmit).contains("replica1", "replica2")
+        );
+    }
+
+    @Test
+    @DisplayName("모든 데이터소스가 제외되면 대체 데이터소스를 선택한다.")
+    void fallbackWhenAllEjected() {
+        //given
+        DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(Map.of("replica", 1), "source");
+
+        //when
+        dataSourceSelector.eject("replica");
+
+        //then
+        assertThat(dataSourceSelector.getOne()).isEqualTo("source");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 선택해도 범위를 벗어나지 않고 가중치 비율을 지킨다.")
+    void getOneConcurrently() throws Exception {
+        //given
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("replica", 2);
+        weights.put("source", 1);
+        DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(weights, "source");
+
+        int threadCount = 64;
+        int selectionsPerThread = 3_000;
+        Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        List<Future<?>> futures = IntStream.range(0, threadCount)
+            .mapToObj(i -> executorService.submit(() -> {
+                for (int j = 0; j < selectionsPerThread; j++) {
+                    counts.computeIfAbsent(dataSourceSelector.getOne(), key -> new LongAdder()).increment();
+                }
+            }))
+            .collect(Collectors.toUnmodifiableList());
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        //then
+        Map<String, Long> result = counts.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        assertAll(
+            () -> assertThat(result.get("replica")).isEqualTo(threadCount * selectionsPerThread * 2 / 3),
+            () -> assertThat(result.get("source")).isEqualTo(threadCount * selectionsPerThread / 3)
+        );
+    }
 }
@@ -0,0 +1,86 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplicaHealthCheckerTest {
+
+    private final DataSource replicaDataSource = mock(DataSource.class);
+    private final DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(Map.of("replica", 1), "source");
+    private final ReplicaHealthChecker replicaHealthChecker = new ReplicaHealthChecker(
+        Map.of("replica", replicaDataSource), dataSourceSelector, 2, Duration.ofMillis(200));
+
+    @AfterEach
+    void tearDown() {
+        replicaHealthChecker.close();
+    }
+
+    @Test
+    @DisplayName("커넥션 검증에 연속으로 실패하면 replica 를 제외한다.")
+    void ejectAfterFailures() throws SQLException {
+        // given
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // when
+        replicaHealthChecker.check();
+        boolean ejectedAfterFirstFailure = dataSourceSelector.isEjected("replica");
+        replicaHealthChecker.check();
+
+        // then
+        assertThat(ejectedAfterFirstFailure).isFalse();
+        assertThat(dataSourceSelector.getOne()).isEqualTo("source");
+    }
+
+    @Test
+    @DisplayName("제외된 replica 가 다시 검증에 성공하면 선택 대상으로 되돌린다.")
+    void readmitAfterRecovery() throws SQLException {
+        // given
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(replicaDataSource.getConnection())
+            .thenThrow(new SQLException("connection refused"))
+            .thenThrow(new SQLException("connection refused"))
+            .thenReturn(connection);
+
+        // when
+        replicaHealthChecker.check();
+        replicaHealthChecker.check();
+        replicaHealthChecker.check();
+
+        // then
+        assertThat(dataSourceSelector.getOne()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻는 데 제한 시간을 넘기면 실패로 세고, 끝나지 않은 검증을 다시 시작하지 않는다.")
+    void failOnProbeTimeout() throws SQLException {
+        // given
+        when(replicaDataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return mock(Connection.class);
+        });
+
+        // when
+        long startedAt = System.nanoTime();
+        replicaHealthChecker.check();
+        replicaHealthChecker.check();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(dataSourceSelector.getOne()).isEqualTo("source");
+        assertThat(elapsedMillis).isLessThan(2_000);
+        verify(replicaDataSource, times(1)).getConnection();
+    }
+}
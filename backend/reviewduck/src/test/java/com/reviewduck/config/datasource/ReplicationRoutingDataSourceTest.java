@@ -0,0 +1,125 @@
+package com.reviewduck.config.datasource;
+
+import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadYourWritesWindow readYourWritesWindow = new ReadYourWritesWindow(60_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceSelector dataSourceSelector = DataSourceSelector.weighted(Map.of(REPLICA, 2, SOURCE, 1), SOURCE);
+        routingDataSource = new ReplicationRoutingDataSource(dataSourceSelector, replicaLagMonitor,
+            readYourWritesWindow, meterRegistry);
+    }
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 없으면 읽기를 replica 와 source 에 분산한다.")
+    void balanceReads() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        IntStream.range(0, 3).forEach(i -> routingDataSource.determineCurrentLookupKey());
+
+        // then
+        assertAll(
+            () -> assertThat(count(REPLICA, "balanced")).isEqualTo(2),
+            () -> assertThat(count(SOURCE, "balanced")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("선택된 replica 의 복제 지연이 임계치를 넘으면 읽기를 source 로 보낸다.")
+    void routeToSourceWhenLagging() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isLagging(REPLICA)).thenReturn(true);
+
+        // when
+        List<Object> lookupKeys = IntStream.range(0, 3)
+            .mapToObj(i -> routingDataSource.determineCurrentLookupKey())
+            .collect(Collectors.toUnmodifiableList());
+
+        // then
+        assertAll(
+            () -> assertThat(lookupKeys).containsOnly(SOURCE),
+            () -> assertThat(count(SOURCE, "replica_lag")).isEqualTo(2),
+            () -> assertThat(count(SOURCE, "balanced")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기를 한 회원의 읽기는 source 로 보낸다.")
+    void routeToSourceAfterWrite() {
+        // given
+        DataSourceRoutingContext.setMemberId(1L);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertAll(
+            () -> assertThat(lookupKey).isEqualTo(SOURCE),
+            () -> assertThat(count(SOURCE, "write")).isEqualTo(1),
+            () -> assertThat(count(SOURCE, "recent_write")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 회원의 쓰기는 읽기 라우팅에 영향을 주지 않는다.")
+    void balanceReadsOfOtherMember() {
+        // given
+        DataSourceRoutingContext.setMemberId(1L);
+        routingDataSource.determineCurrentLookupKey();
+        DataSourceRoutingContext.setMemberId(2L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object lookupKey = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertAll(
+            () -> assertThat(lookupKey).isEqualTo(REPLICA),
+            () -> assertThat(count(SOURCE, "recent_write")).isZero()
+        );
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry.get("datasource.routing")
+            .tag("target", target.toLowerCase())
+            .tag("reason", reason)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,212 @@
+package com.reviewduck.config.http;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OutboundHttpClientTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private OutboundHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        client = new OutboundHttpClient(meterRegistry, ForkJoinPool.commonPool(), Duration.ofSeconds(1),
+            Duration.ofSeconds(5), 1, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 호스트에 보내는 요청은 커넥션을 새로 열지 않고 재사용한다.")
+    void reuseConnection() throws Exception {
+        // given
+        server.createContext("/ok", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200);
+        });
+
+        // when
+        for (int count = 0; count < 20; count++) {
+            client.send(get("/ok")).get();
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("기본 포트를 생략한 주소와 명시한 주소는 같은 route 로 센다.")
+    void routeWithDefaultPort() {
+        assertAll(
+            () -> assertThat(OutboundHttpClient.routeOf(URI.create("https://github.com/login")))
+                .isEqualTo("https://github.com:443"),
+            () -> assertThat(OutboundHttpClient.routeOf(URI.create("https://github.com:443/user")))
+                .isEqualTo("https://github.com:443"),
+            () -> assertThat(OutboundHttpClient.routeOf(URI.create("http://localhost/health")))
+                .isEqualTo("http://localhost:80")
+        );
+    }
+
+    @Test
+    @DisplayName("멱등 요청은 503 응답을 받으면 다시 보낸다.")
+    void retryIdempotentRequest() throws Exception {
+        // given
+        server.createContext("/flaky", exchange -> respond(exchange, requestCount.incrementAndGet() < 3 ? 503 : 200));
+
+        // when
+        HttpResponse<String> response = client.send(get("/flaky")).get();
+
+        // then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(200),
+            () -> assertThat(requestCount.get()).isEqualTo(3),
+            () -> assertThat(meterRegistry.find("http.client.outbound.retries").tag("host", "localhost")
+                .counter().count()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 다 쓰면 마지막 응답을 돌려준다.")
+    void returnLastResponseAfterRetries() throws Exception {
+        // given
+        server.createContext("/down", exchange -> {
+            requestCount.incrementAndGet();
+            respond(exchange, 503);
+        });
+
+        // when
+        HttpResponse<String> response = client.send(get("/down")).get();
+
+        // then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(503),
+            () -> assertThat(requestCount.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("멱등이 아닌 요청은 다시 보내지 않는다.")
+    void notRetryPost() throws Exception {
+        // given
+        server.createContext("/flaky", exchange -> respond(exchange, requestCount.incrementAndGet() < 3 ? 503 : 200));
+        HttpRequest request = client.newRequest(uriOf("/flaky"))
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .build();
+
+        // when
+        HttpResponse<String> response = client.send(request).get();
+
+        // then
+        assertAll(
+            () -> assertThat(response.statusCode()).isEqualTo(503),
+            () -> assertThat(requestCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 route 에 진행 중인 요청이 제한을 넘으면 기다리지 않고 실패한다.")
+    void limitRequestsPerRoute() throws Exception {
+        // given
+        server.createContext("/slow", exchange -> {
+            await();
+            respond(exchange, 200);
+        });
+        CompletableFuture<HttpResponse<String>> inProgress = client.send(get("/slow"));
+
+        // when
+        CompletableFuture<HttpResponse<String>> rejected = client.send(get("/slow"));
+        release.countDown();
+        inProgress.get();
+
+        // then
+        assertAll(
+            () -> assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class),
+            () -> assertThat(client.send(get("/slow")).get().statusCode()).isEqualTo(200)
+        );
+    }
+
+    @Test
+    @DisplayName("요청마다 걸린 시간을 호스트와 상태별로 기록한다.")
+    void recordTimer() throws Exception {
+        // given
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+
+        // when
+        client.send(get("/ok")).get();
+        client.send(get("/ok")).get();
+
+        // then
+        assertThat(meterRegistry.find("http.client.outbound")
+            .tags("host", "localhost", "method", "GET", "status", "200")
+            .timer().count()).isEqualTo(2);
+    }
+
+    private HttpRequest get(String path) {
+        return client.newRequest(uriOf(path)).GET().build();
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reviewduck.config.logging;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import javax.servlet.DispatcherType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class AccessLogInterceptorTest {
+
+    private final AccessLogWriter accessLogWriter = mock(AccessLogWriter.class);
+    private final AccessLogInterceptor accessLogInterceptor = new AccessLogInterceptor(accessLogWriter);
+
+    @Test
+    @DisplayName("실제 URI 대신 매핑된 path 템플릿과 응답 상태를 남긴다.")
+    void writePathTemplate() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/templates/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/templates/{templateId}");
+        response.setStatus(404);
+
+        // when
+        accessLogInterceptor.preHandle(request, response, null);
+        accessLogInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        AccessLog accessLog = captureAccessLog();
+        assertAll(
+            () -> assertThat(accessLog.getMethod()).isEqualTo("GET"),
+            () -> assertThat(accessLog.getPath()).isEqualTo("/api/templates/{templateId}"),
+            () -> assertThat(accessLog.getStatus()).isEqualTo(404)
+        );
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외로 끝난 요청은 500 으로 남긴다.")
+    void writeInternalServerErrorOnException() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reviews");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        accessLogInterceptor.preHandle(request, response, null);
+        accessLogInterceptor.afterCompletion(request, response, null, new IllegalStateException());
+
+        // then
+        AccessLog accessLog = captureAccessLog();
+        assertAll(
+            () -> assertThat(accessLog.getPath()).isEqualTo("UNMATCHED"),
+            () -> assertThat(accessLog.getStatus()).isEqualTo(500)
+        );
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 다시 dispatch 되어도 처음 들어온 시각부터 걸린 시간을 잰다.")
+    void keepStartTimeOnAsyncDispatch() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        accessLogInterceptor.preHandle(request, response, null);
+        Thread.sleep(50);
+
+        // when
+        accessLogInterceptor.preHandle(request, response, null);
+        accessLogInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertThat(captureAccessLog().getLatencyMillis()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 요청이 /error 로 다시 dispatch 되어도 한 번만 남긴다.")
+    void skipErrorDispatch() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reviews");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        accessLogInterceptor.preHandle(request, response, null);
+        accessLogInterceptor.afterCompletion(request, response, null, new IllegalStateException());
+
+        // when
+        request.setDispatcherType(DispatcherType.ERROR);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/error");
+        accessLogInterceptor.preHandle(request, response, null);
+        accessLogInterceptor.afterCompletion(request, response, null, null);
+
+        // then
+        assertThat(captureAccessLog().getPath()).isEqualTo("UNMATCHED");
+    }
+
+    private AccessLog captureAccessLog() {
+        ArgumentCaptor<AccessLog> captor = ArgumentCaptor.forClass(AccessLog.class);
+        verify(accessLogWriter).write(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.reviewduck.config.logging;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AccessLogWriterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private AccessLogWriter accessLogWriter;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        accessLogWriter.close();
+    }
+
+    @Test
+    @DisplayName("접근 로그를 JSON 한 줄로 출력한다.")
+    void writeJson() throws Exception {
+        // given
+        accessLogWriter = new AccessLogWriter(meterRegistry, objectMapper, lines::add, 10, 10);
+
+        // when
+        accessLogWriter.write(new AccessLog(1000L, "GET", "/api/templates/{templateId}", 200, 12));
+        accessLogWriter.close();
+
+        // then
+        JsonNode line = objectMapper.readTree(lines.get(0));
+        assertAll(
+            () -> assertThat(lines).hasSize(1),
+            () -> assertThat(line.get("timestamp").asLong()).isEqualTo(1000L),
+            () -> assertThat(line.get("method").asText()).isEqualTo("GET"),
+            () -> assertThat(line.get("path").asText()).isEqualTo("/api/templates/{templateId}"),
+            () -> assertThat(line.get("status").asInt()).isEqualTo(200),
+            () -> assertThat(line.get("latencyMillis").asLong()).isEqualTo(12)
+        );
+    }
+
+    @Test
+    @DisplayName("출력이 밀려 큐가 가득 차면 기다리지 않고 로그를 버린다.")
+    void dropWhenQueueIsFull() throws Exception {
+        // given
+        accessLogWriter = new AccessLogWriter(meterRegistry, objectMapper, line -> {
+            entered.countDown();
+            await();
+            lines.add(line);
+        }, 2, 10);
+        accessLogWriter.write(accessLog());
+        entered.await(1, TimeUnit.SECONDS);
+
+        // when
+        for (int count = 0; count < 5; count++) {
+            accessLogWriter.write(accessLog());
+        }
+        release.countDown();
+        accessLogWriter.close();
+
+        // then
+        assertAll(
+            () -> assertThat(lines).hasSize(3),
+            () -> assertThat(meterRegistry.find("access.log.dropped").counter().count()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("출력에 실패해도 다음 로그는 계속 출력한다.")
+    void continueAfterSinkFailure() {
+        // given
+        accessLogWriter = new AccessLogWriter(meterRegistry, objectMapper, line -> {
+            if (lines.isEmpty() && line.contains("\"status\":500")) {
+                lines.add("failed");
+                throw new IllegalStateException();
+            }
+            lines.add(line);
+        }, 10, 1);
+
+        // when
+        accessLogWriter.write(new AccessLog(1000L, "GET", "/api/members/me", 500, 1));
+        accessLogWriter.write(new AccessLog(1000L, "GET", "/api/members/me", 200, 1));
+        accessLogWriter.close();
+
+        // then
+        assertThat(lines).hasSize(2);
+    }
+
+    private AccessLog accessLog() {
+        return new AccessLog(1000L, "GET", "/api/members/me", 200, 1);
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
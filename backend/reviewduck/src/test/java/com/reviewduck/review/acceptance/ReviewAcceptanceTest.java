@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 import com.reviewduck.common.acceptance.AcceptanceTest;
@@ -27,9 +29,18 @@ import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewContentResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
 import com.reviewduck.review.dto.controller.response.ReviewSynchronizedResponse;
+import com.reviewduck.review.service.ReviewLikeService;
 
 public class ReviewAcceptanceTest extends AcceptanceTest {
 
+    @Autowired
+    private ReviewLikeService reviewLikeService;
+
+    @AfterEach
+    void flushLikes() {
+        reviewLikeService.flush();
+    }
+
     @Nested
     @DisplayName("최신화된 회고 폼과 동기화하여 특정 회고 조회")
     class findReview {
@@ -262,6 +273,30 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
             get("/api/reviews/public").statusCode(HttpStatus.OK.value());
         }
 
+        @Test
+        @DisplayName("커서를 이용해 최신순으로 다음 페이지를 조회한다.")
+        void findPageByCursor() {
+            long firstReviewId = saveReviewAndGetId(accessToken1, false);
+            long secondReviewId = saveReviewAndGetId(accessToken2, false);
+            saveReviewAndGetId(accessToken2, true);
+
+            String nextCursor = get("/api/reviews/public?cursor=&size=1&sort=latest")
+                .statusCode(HttpStatus.OK.value())
+                .assertThat()
+                .body("reviews", hasSize(1))
+                .body("reviews[0].id", equalTo((int)secondReviewId))
+                .body("isLastPage", equalTo(false))
+                .extract()
+                .path("nextCursor");
+
+            get("/api/reviews/public?cursor=" + nextCursor + "&size=1&sort=latest")
+                .statusCode(HttpStatus.OK.value())
+                .assertThat()
+                .body("reviews", hasSize(1))
+                .body("reviews[0].id", equalTo((int)firstReviewId))
+                .body("isLastPage", equalTo(true));
+        }
+
     }
 
     @Nested
@@ -0,0 +1,122 @@
+package com.reviewduck.review.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TrendingReviewsTest {
+
+    private final long now = 460_000L;
+    private final TrendingReviews trendingReviews = new TrendingReviews(Duration.ofHours(24));
+
+    @Test
+    @DisplayName("같은 시각의 좋아요는 개수가 많은 순으로 정렬된다.")
+    void orderByLikes() {
+        // when
+        trendingReviews.record(1L, now, 10);
+        trendingReviews.record(2L, now, 30);
+        trendingReviews.record(3L, now, 20);
+
+        // then
+        assertThat(trendingReviews.findReviewIds(0, 3)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요는 반감기마다 가중치가 절반으로 줄어든다.")
+    void decayByHalfLife() {
+        // when
+        trendingReviews.record(1L, now - 24, 30);
+        trendingReviews.record(2L, now, 20);
+
+        // then
+        assertThat(trendingReviews.findReviewIds(0, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 회고의 좋아요는 누적된다.")
+    void accumulateLikes() {
+        // when
+        trendingReviews.record(1L, now, 30);
+        trendingReviews.record(2L, now, 20);
+        trendingReviews.record(2L, now, 20);
+
+        // then
+        assertAll(
+            () -> assertThat(trendingReviews.findReviewIds(0, 2)).containsExactly(2L, 1L),
+            () -> assertThat(trendingReviews.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("순위에서 회고를 제거한다.")
+    void remove() {
+        // given
+        trendingReviews.record(1L, now, 30);
+        trendingReviews.record(2L, now, 20);
+
+        // when
+        trendingReviews.remove(1L);
+
+        // then
+        assertAll(
+            () -> assertThat(trendingReviews.findReviewIds(0, 2)).containsExactly(2L),
+            () -> assertThat(trendingReviews.size()).isEqualTo(1),
+            () -> assertThat(trendingReviews.contains(1L)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("특정 위치부터 원하는 개수만큼 조회한다.")
+    void findPage() {
+        // given
+        trendingReviews.record(1L, now, 10);
+        trendingReviews.record(2L, now, 20);
+        trendingReviews.record(3L, now, 30);
+
+        // when, then
+        assertThat(trendingReviews.findReviewIds(1, 5)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기록한 좋아요는 시간별로 합쳐 변경 내역으로 꺼내고, 불러온 좋아요는 변경 내역에 남기지 않는다.")
+    void drainChanges() {
+        // given
+        trendingReviews.load(List.of(new ReviewLikeBucket(1L, now - 1, 50)));
+        trendingReviews.record(1L, now, 3);
+        trendingReviews.record(1L, now, 2);
+
+        // when
+        List<ReviewLikeBucket> changes = trendingReviews.drainChanges();
+
+        // then
+        assertAll(
+            () -> assertThat(changes)
+                .extracting("reviewId", "hour", "count")
+                .containsExactly(tuple(1L, now, 5)),
+            () -> assertThat(trendingReviews.drainChanges()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 변경 내역을 되돌려도 점수는 다시 더하지 않는다.")
+    void restoreChanges() {
+        // given
+        trendingReviews.record(1L, now, 20);
+        trendingReviews.record(2L, now, 30);
+        List<ReviewLikeBucket> changes = trendingReviews.drainChanges();
+
+        // when
+        trendingReviews.restoreChanges(changes);
+
+        // then
+        assertAll(
+            () -> assertThat(trendingReviews.getChanges()).hasSize(2),
+            () -> assertThat(trendingReviews.findReviewIds(0, 2)).containsExactly(2L, 1L)
+        );
+    }
+}
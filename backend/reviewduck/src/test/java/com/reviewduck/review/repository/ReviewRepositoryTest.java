@@ -168,30 +168,6 @@ public class ReviewRepositoryTest {
         );
     }
 
-    @Test
-    @DisplayName("공개된 모든 회고 중 likes가 특정 개수 이상이며 createdAt 내림차순으로 정렬된 특정 페이지를 조회한다.")
-    void findByIsPrivateFalseLikes() throws InterruptedException {
-        // given
-        Review savedReview1 = saveReview(savedMember, savedReviewForm, false);
-        Review savedReview2 = saveReview(savedMember, savedReviewForm, true); // isPrivateFalse이니 제외
-        Review savedReview3 = saveReview(savedMember, savedReviewForm, false);
-        Review savedReview4 = saveReview(savedMember, savedReviewForm, false);
-
-        reviewRepository.increaseLikes(savedReview1, 25);
-        reviewRepository.increaseLikes(savedReview3, 20);
-        reviewRepository.increaseLikes(savedReview4, 5); // 10 이하이니 제외
-
-        //when
-        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<Review> reviews = reviewRepository.findByIsPrivateFalseAndLikesGreaterThan(pageable, 10).getContent();
-
-        //then
-        assertAll(
-            () -> assertThat(reviews).hasSize(1),
-            () -> assertThat(reviews.get(0).getId()).isEqualTo(savedReview3.getId())
-        );
-    }
-
     @Test
     @DisplayName("리뷰를 삭제한다.")
     void deleteReview() throws InterruptedException {
@@ -215,8 +191,8 @@ public class ReviewRepositoryTest {
         // when
         int likeCount = 50;
         // 두 번 증가시킨다
-        reviewRepository.increaseLikes(savedReview, likeCount);
-        reviewRepository.increaseLikes(savedReview, likeCount);
+        reviewRepository.addLikes(id, likeCount);
+        reviewRepository.addLikes(id, likeCount);
 
         Review review = reviewRepository.findById(id).orElseThrow();
         int actual = review.getLikes();
@@ -239,7 +215,7 @@ public class ReviewRepositoryTest {
         LocalDateTime updatedAt = reviewRepository.findById(id).orElseThrow()
             .getUpdatedAt();
 
-        reviewRepository.increaseLikes(savedReview, 50);
+        reviewRepository.addLikes(id, 50);
 
         // 좋아요 더한 후 수정 시간
         LocalDateTime updatedAtAfterIncreaseLikes = reviewRepository.findById(id).orElseThrow()
@@ -7,6 +7,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,12 +35,15 @@ import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewLikesResponse;
 import com.reviewduck.review.dto.controller.response.ReviewResponse;
+import com.reviewduck.review.dto.controller.response.ReviewSheetResponse;
 import com.reviewduck.review.dto.controller.response.ReviewSynchronizedResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineCursorReviewsResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.exception.ReviewException;
 import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.repository.ReviewRepository;
 
@@ -57,6 +65,15 @@ public class ReviewServiceTest extends ServiceTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private TrendingReviewService trendingReviewService;
+
+    @Autowired
+    private ReviewLikeService reviewLikeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void createReviewForm() {
         String reviewTitle = "title";
@@ -68,6 +85,12 @@ public class ReviewServiceTest extends ServiceTest {
         this.reviewForm = reviewFormRepository.save(reviewForm1);
     }
 
+    @AfterEach
+    void flushLikes() {
+        reviewLikeService.flush();
+        trendingReviewService.rebuild();
+    }
+
     @Nested
     @DisplayName("회고 저장")
     class saveReview {
@@ -257,6 +280,37 @@ public class ReviewServiceTest extends ServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("시트 형식으로 특정 페이지를 조회한다.")
+        void findSheet() throws InterruptedException {
+            // given
+            saveReview(reviewForm, member1, false);
+            Review review = saveReview(reviewForm, member2, true);
+
+            // when
+            ReviewsOfReviewFormResponse result = reviewService.findAllByCode(reviewForm.getCode(), 0, 1,
+                "sheet", member1.getId());
+
+            ReviewSheetResponse reviewResponse = (ReviewSheetResponse)result.getReviews().get(0);
+            List<String> questionValues = reviewResponse.getContents().stream()
+                .map(it -> it.getQuestion().getValue())
+                .collect(Collectors.toUnmodifiableList());
+            List<String> answerValues = reviewResponse.getContents().stream()
+                .map(it -> it.getAnswer().getValue())
+                .collect(Collectors.toUnmodifiableList());
+
+            // then
+            assertAll(
+                () -> assertThat(result.getNumberOfReviews()).isEqualTo(2),
+                () -> assertThat(result.getIsLastPage()).isFalse(),
+                () -> assertThat(reviewResponse.getId()).isEqualTo(review.getId()),
+                () -> assertThat(reviewResponse.getIsCreator()).isFalse(),
+                () -> assertThat(reviewResponse.getCreator().getNickname()).isEqualTo(member2.getNickname()),
+                () -> assertThat(questionValues).containsExactly("question1", "question2"),
+                () -> assertThat(answerValues).containsExactly("answer", "answer")
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 회고 폼으로 조회할 수 없다.")
         void invalidCode() {
@@ -295,32 +349,216 @@ public class ReviewServiceTest extends ServiceTest {
         }
 
         @Test
-        @DisplayName("좋아요가 특정 개수 이상이며 생성일로 정렬된 특정 페이지를 조회한다.")
+        @DisplayName("시간 감쇠된 좋아요 점수로 정렬된 특정 페이지를 조회한다.")
         void findAllOrderByTrend() throws InterruptedException {
             // given
             Review review1 = saveReview(reviewForm, member1, false);
             Review review2 = saveReview(reviewForm, member2, false);
             Review review3 = saveReview(reviewForm, member1, true); // 비밀글
             Review review4 = saveReview(reviewForm, member1, false);
+            trendingReviewService.rebuild();
 
             // when
-            reviewService.increaseLikes(review1.getId(), 500);
-            reviewService.increaseLikes(review2.getId(), 300);
-            reviewService.increaseLikes(review4.getId(), 10); // 좋아요 개수 미만
+            reviewService.increaseLikes(review1.getId(), 300);
+            reviewService.increaseLikes(review2.getId(), 500);
+            reviewService.increaseLikes(review3.getId(), 1000);
+            reviewService.increaseLikes(review4.getId(), 10);
+            reviewLikeService.flush();
 
             int page = 0;
-            int size = 1;
+            int size = 2;
             String sort = "trend";
 
             TimelineReviewsResponse reviewsResponse = reviewService.findAllPublic(page, size, sort, memberId1);
 
             // then
             assertAll(
-                () -> assertThat(reviewsResponse.getReviews()).hasSize(1),
-                () -> assertThat(reviewsResponse.getReviews().get(0).getId()).isEqualTo(review2.getId()),
-                () -> assertThat(reviewsResponse.getReviews().get(0).getLikes()).isEqualTo(300)
+                () -> assertThat(reviewsResponse.getNumberOfReviews()).isEqualTo(3),
+                () -> assertThat(reviewsResponse.getReviews())
+                    .extracting("id")
+                    .containsExactly(review2.getId(), review1.getId()),
+                () -> assertThat(reviewsResponse.getReviews().get(0).getLikes()).isEqualTo(500)
             );
         }
+
+        @Test
+        @DisplayName("인기순 순위를 다시 만들어도 저장된 좋아요와 아직 저장하지 않은 좋아요를 모두 유지한다.")
+        void keepLikesOnRebuild() throws InterruptedException {
+            // given
+            Review review1 = saveReview(reviewForm, member1, false);
+            Review review2 = saveReview(reviewForm, member2, false);
+            trendingReviewService.rebuild();
+            reviewService.increaseLikes(review1.getId(), 300);
+            reviewService.increaseLikes(review2.getId(), 500);
+            trendingReviewService.rebuild();
+
+            // when
+            reviewService.increaseLikes(review1.getId(), 400);
+            trendingReviewService.rebuild();
+
+            TimelineReviewsResponse reviewsResponse = reviewService.findAllPublic(0, 2, "trend", memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(reviewsResponse.getNumberOfReviews()).isEqualTo(2),
+                () -> assertThat(reviewsResponse.getReviews())
+                    .extracting("id")
+                    .containsExactly(review1.getId(), review2.getId())
+            );
+        }
+
+        @Test
+        @DisplayName("비공개로 바뀌었다가 다시 공개된 회고는 인기순 순위에 다시 포함된다.")
+        void findAllOrderByTrendAfterPublishedAgain() throws InterruptedException {
+            // given
+            Review review = saveReview(reviewForm, member1, false);
+            trendingReviewService.rebuild();
+            reviewService.increaseLikes(review.getId(), 300);
+            trendingReviewService.rebuild();
+
+            // when
+            reviewService.update(memberId1, review.getId(), createUpdateRequest(true));
+            TimelineReviewsResponse privateResponse = reviewService.findAllPublic(0, 2, "trend", memberId1);
+            reviewService.update(memberId1, review.getId(), createUpdateRequest(false));
+            TimelineReviewsResponse publicResponse = reviewService.findAllPublic(0, 2, "trend", memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(privateResponse.getNumberOfReviews()).isZero(),
+                () -> assertThat(publicResponse.getNumberOfReviews()).isEqualTo(1),
+                () -> assertThat(publicResponse.getReviews())
+                    .extracting("id")
+                    .containsExactly(review.getId())
+            );
+        }
+
+        private ReviewUpdateRequest createUpdateRequest(boolean isPrivate) {
+            return new ReviewUpdateRequest(isPrivate, "title",
+                List.of(
+                    new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
+                    new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                ));
+        }
+
+        @Test
+        @DisplayName("커서를 이용해 최신순으로 다음 페이지를 조회한다.")
+        void findAllByCursorOrderByLatest() throws InterruptedException {
+            // given
+            Review review1 = saveReview(reviewForm, member1, false);
+            Review review2 = saveReview(reviewForm, member2, false);
+            saveReview(reviewForm, member1, true);
+            Review review3 = saveReview(reviewForm, member2, false);
+
+            // when
+            int size = 2;
+            String sort = "latest";
+
+            TimelineCursorReviewsResponse firstResponse = reviewService.findAllPublicByCursor("", size, sort,
+                memberId1);
+            TimelineCursorReviewsResponse secondResponse = reviewService.findAllPublicByCursor(
+                firstResponse.getNextCursor(), size, sort, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(firstResponse.getReviews())
+                    .extracting("id")
+                    .containsExactly(review3.getId(), review2.getId()),
+                () -> assertThat(firstResponse.getIsLastPage()).isFalse(),
+                () -> assertThat(secondResponse.getReviews())
+                    .extracting("id")
+                    .containsExactly(review1.getId()),
+                () -> assertThat(secondResponse.getIsLastPage()).isTrue(),
+                () -> assertThat(secondResponse.getNextCursor()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 커서로 조회할 수 없다.")
+        void findAllByInvalidCursor() {
+            assertThatThrownBy(() -> reviewService.findAllPublicByCursor("invalid cursor", 1, "latest", memberId1))
+                .isInstanceOf(ReviewException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+        }
+
+        @Test
+        @DisplayName("인기순 정렬은 커서로 조회할 수 없다.")
+        void findAllByCursorOrderByTrend() {
+            assertThatThrownBy(() -> reviewService.findAllPublicByCursor("", 1, "trend", memberId1))
+                .isInstanceOf(ReviewException.class)
+                .hasMessageContaining("인기순 정렬은 커서로 조회할 수 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("회고 목록 조회 쿼리 수")
+    class countListQueries {
+
+        @Test
+        @DisplayName("타임라인은 페이지 크기와 무관하게 일정한 수의 쿼리로 조회한다.")
+        void findTimelineWithConstantQueries() throws InterruptedException {
+            // given
+            for (int i = 0; i < 12; i++) {
+                saveReview(reviewForm, i % 2 == 0 ? member1 : member2, false);
+            }
+
+            // when
+            long smallPageQueries = countQueries(() -> reviewService.findAllPublic(0, 2, "latest", memberId1));
+            long largePageQueries = countQueries(() -> reviewService.findAllPublic(0, 10, "latest", memberId1));
+
+            // then
+            assertAll(
+                () -> assertThat(largePageQueries).isEqualTo(smallPageQueries),
+                () -> assertThat(largePageQueries).isLessThanOrEqualTo(3)
+            );
+        }
+
+        @Test
+        @DisplayName("회고 폼의 회고 목록은 페이지 크기와 무관하게 일정한 수의 쿼리로 조회한다.")
+        void findByCodeWithConstantQueries() throws InterruptedException {
+            // given
+            for (int i = 0; i < 12; i++) {
+                saveReview(reviewForm, i % 2 == 0 ? member1 : member2, false);
+            }
+            String code = reviewForm.getCode();
+
+            // when
+            long smallPageQueries = countQueries(() -> reviewService.findAllByCode(code, 0, 2, "list", memberId1));
+            long largePageQueries = countQueries(() -> reviewService.findAllByCode(code, 0, 10, "list", memberId1));
+
+            // then
+            assertAll(
+                () -> assertThat(largePageQueries).isEqualTo(smallPageQueries),
+                () -> assertThat(largePageQueries).isLessThanOrEqualTo(4)
+            );
+        }
+
+        @Test
+        @DisplayName("사용자가 작성한 회고 목록은 페이지 크기와 무관하게 일정한 수의 쿼리로 조회한다.")
+        void findBySocialIdWithConstantQueries() throws InterruptedException {
+            // given
+            for (int i = 0; i < 12; i++) {
+                saveReview(reviewForm, member1, i % 3 == 0);
+            }
+            String socialId = member1.getSocialId();
+
+            // when
+            long smallPageQueries = countQueries(() -> reviewService.findAllBySocialId(socialId, memberId1, 0, 2));
+            long largePageQueries = countQueries(() -> reviewService.findAllBySocialId(socialId, memberId1, 0, 10));
+
+            // then
+            assertAll(
+                () -> assertThat(largePageQueries).isEqualTo(smallPageQueries),
+                () -> assertThat(largePageQueries).isLessThanOrEqualTo(4)
+            );
+        }
+
+        private long countQueries(Runnable query) {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            query.run();
+            return statistics.getPrepareStatementCount();
+        }
     }
 
     @Nested
@@ -465,6 +703,7 @@ public class ReviewServiceTest extends ServiceTest {
             // 두 번 증가시킨다
             reviewService.increaseLikes(id, likeCount);
             ReviewLikesResponse likes = reviewService.increaseLikes(id, likeCount);
+            reviewLikeService.flush();
 
             Review review = findById(id);
             int actual = review.getLikes();
@@ -476,6 +715,25 @@ public class ReviewServiceTest extends ServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("DB 에 반영되지 않은 좋아요를 포함한 개수를 반환한다.")
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        void increaseWithoutFlush() throws InterruptedException {
+            // given
+            Review savedReview = saveReview(reviewForm, member1, false);
+            long id = savedReview.getId();
+
+            // when
+            reviewService.increaseLikes(id, 30);
+            ReviewLikesResponse likes = reviewService.increaseLikes(id, 20);
+
+            // then
+            assertAll(
+                () -> assertThat(likes.getLikes()).isEqualTo(50),
+                () -> assertThat(findById(id).getLikes()).isZero()
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 id의 좋아요를 더할 수 없다.")
         @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -503,6 +761,7 @@ public class ReviewServiceTest extends ServiceTest {
             LocalDateTime updatedAt = findById(id).getUpdatedAt();
             // when
             reviewService.increaseLikes(id, 50);
+            reviewLikeService.flush();
 
             // 좋아요 더한 후 수정 시간
             LocalDateTime updatedAtAfterIncreaseLikes = findById(id).getUpdatedAt();
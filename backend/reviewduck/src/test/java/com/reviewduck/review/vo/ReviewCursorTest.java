@@ -0,0 +1,42 @@
+package com.reviewduck.review.vo;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.reviewduck.review.exception.ReviewException;
+
+class ReviewCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 값을 얻는다.")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime sortValue = LocalDateTime.of(2022, 10, 20, 10, 39, 30, 1_000_000);
+        ReviewCursor cursor = ReviewCursor.of(sortValue, 12L);
+
+        // when
+        ReviewCursor decoded = ReviewCursor.decode(cursor.encode());
+
+        // then
+        assertAll(
+            () -> assertThat(decoded.getSortValue()).isEqualTo(sortValue),
+            () -> assertThat(decoded.getId()).isEqualTo(12L)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid cursor", "aW52YWxpZA", "MjAyMi0xMC0yMFQxMDozOTozMA"})
+    @DisplayName("유효하지 않은 커서는 디코딩할 수 없다.")
+    void invalidCursor(String cursor) {
+        assertThatThrownBy(() -> ReviewCursor.decode(cursor))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("유효하지 않은 커서입니다.");
+    }
+}
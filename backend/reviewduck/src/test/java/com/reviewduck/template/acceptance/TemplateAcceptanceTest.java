@@ -8,6 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 import com.reviewduck.common.acceptance.AcceptanceTest;
@@ -16,9 +17,13 @@ import com.reviewduck.template.dto.controller.request.TemplateQuestionCreateRequ
 import com.reviewduck.template.dto.controller.request.TemplateQuestionUpdateRequest;
 import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
 import com.reviewduck.template.dto.controller.response.TemplateIdResponse;
+import com.reviewduck.template.service.TemplateUsageService;
 
 public class TemplateAcceptanceTest extends AcceptanceTest {
 
+    @Autowired
+    private TemplateUsageService templateUsageService;
+
     @Nested
     @DisplayName("템플릿 생성")
     class createTemplate {
@@ -103,6 +108,7 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
             }
             long templateId = saveTemplateAndGetId(accessToken2, "title2");
             post("/api/templates/" + templateId + "/review-forms", accessToken1);
+            templateUsageService.flush();
 
             // when, then
             get("/api/templates/all", accessToken1).statusCode(HttpStatus.OK.value())
@@ -136,6 +142,7 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
             long templateId = saveTemplateAndGetId(accessToken1, "title1");
             saveTemplateAndGetId(accessToken2, "title2");
             post("/api/templates/" + templateId + "/review-forms", accessToken1);
+            templateUsageService.flush();
 
             // when, then
             get("/api/templates/all?page=1&size=1&sort=trend", accessToken1).statusCode(HttpStatus.OK.value())
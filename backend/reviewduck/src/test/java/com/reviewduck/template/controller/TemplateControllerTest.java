@@ -97,6 +97,23 @@ public class TemplateControllerTest extends ControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("템플릿 제목 자동완성")
+    class autocomplete {
+
+        @Test
+        @DisplayName("query 파라미터에 값이 존재하지 않을 경우 예외가 발생한다.")
+        void withBlankQuery() throws Exception {
+            assertBadRequestFromGet("/api/templates/autocomplete?query=", "파라미터 정보가 올바르지 않습니다.");
+        }
+
+        @Test
+        @DisplayName("size 파라미터가 양수가 아닐 경우 예외가 발생한다.")
+        void withNotPositiveSize() throws Exception {
+            assertBadRequestFromGet("/api/templates/autocomplete?query=title&size=-1", "파라미터 정보가 올바르지 않습니다.");
+        }
+    }
+
     @Nested
     @DisplayName("사용자별 템플릿 전체 조회")
     class findByMemberSocialId {
@@ -0,0 +1,136 @@
+package com.reviewduck.template.domain;
+
+import static com.reviewduck.template.vo.TemplatePopularityWindow.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TemplateLeaderboardTest {
+
+    private static final long NOW = 500_000L;
+
+    private final TemplateLeaderboard leaderboard = new TemplateLeaderboard(NOW);
+
+    @Test
+    @DisplayName("기간 안에 많이 사용된 템플릿 순으로 조회한다.")
+    void findByWindow() {
+        // given
+        leaderboard.record(1L, NOW, 3);
+        leaderboard.record(2L, NOW - 1, 5);
+        leaderboard.record(3L, NOW - WEEK.getHours(), 10);
+
+        // when, then
+        assertAll(
+            () -> assertThat(leaderboard.findTemplateIds(WEEK, 0, 10)).containsExactly(2L, 1L),
+            () -> assertThat(leaderboard.findTemplateIds(MONTH, 0, 10)).containsExactly(3L, 2L, 1L),
+            () -> assertThat(leaderboard.size(WEEK)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("시간이 지나 기간을 벗어난 사용 횟수는 순위에서 빠진다.")
+    void slideWindow() {
+        // given
+        leaderboard.record(1L, NOW, 3);
+        leaderboard.record(2L, NOW + 1, 1);
+
+        // when
+        leaderboard.advanceTo(NOW + WEEK.getHours());
+
+        // then
+        assertAll(
+            () -> assertThat(leaderboard.findTemplateIds(WEEK, 0, 10)).containsExactly(2L),
+            () -> assertThat(leaderboard.getCount(1L, WEEK)).isZero(),
+            () -> assertThat(leaderboard.getCount(1L, MONTH)).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("가장 긴 기간이 지나면 모든 사용 횟수가 사라진다.")
+    void expireAll() {
+        // given
+        leaderboard.record(1L, NOW, 3);
+
+        // when
+        leaderboard.advanceTo(NOW + MONTH.getHours());
+
+        // then
+        assertAll(
+            () -> assertThat(leaderboard.size(MONTH)).isZero(),
+            () -> assertThat(leaderboard.getCount(1L, MONTH)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("사용 횟수가 같으면 최근에 만든 템플릿이 먼저 조회되고, 요청한 페이지만 돌려준다.")
+    void findPage() {
+        // given
+        for (long templateId = 1; templateId <= 5; templateId++) {
+            leaderboard.record(templateId, NOW, 1);
+        }
+
+        // when, then
+        assertThat(leaderboard.findTemplateIds(WEEK, 2, 2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("저장된 사용 횟수는 변경 내역에 남기지 않고, 기록한 사용 횟수만 꺼내 간다.")
+    void drainChanges() {
+        // given
+        leaderboard.load(List.of(new TemplateUsageBucket(1L, NOW - 1, 5)));
+        leaderboard.record(1L, NOW, 1);
+        leaderboard.record(1L, NOW, 2);
+
+        // when
+        List<TemplateUsageBucket> changes = leaderboard.drainChanges();
+
+        // then
+        assertAll(
+            () -> assertThat(changes).singleElement()
+                .satisfies(bucket -> {
+                    assertThat(bucket.getHour()).isEqualTo(NOW);
+                    assertThat(bucket.getCount()).isEqualTo(3);
+                }),
+            () -> assertThat(leaderboard.getCount(1L, WEEK)).isEqualTo(8),
+            () -> assertThat(leaderboard.drainChanges()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 변경 내역을 되돌려도 사용 횟수는 다시 더하지 않는다.")
+    void restoreChanges() {
+        // given
+        leaderboard.record(1L, NOW, 2);
+        List<TemplateUsageBucket> changes = leaderboard.drainChanges();
+
+        // when
+        leaderboard.restoreChanges(changes);
+
+        // then
+        assertAll(
+            () -> assertThat(leaderboard.getChanges()).hasSize(1),
+            () -> assertThat(leaderboard.getCount(1L, WEEK)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("삭제한 템플릿은 순위와 변경 내역에서 빠진다.")
+    void remove() {
+        // given
+        leaderboard.record(1L, NOW, 2);
+        leaderboard.record(2L, NOW, 1);
+
+        // when
+        leaderboard.remove(1L);
+
+        // then
+        assertAll(
+            () -> assertThat(leaderboard.findTemplateIds(WEEK, 0, 10)).containsExactly(2L),
+            () -> assertThat(leaderboard.getChanges()).hasSize(1)
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.reviewduck.template.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TemplateSearchIndexTest {
+
+    private final TemplateSearchIndex index = new TemplateSearchIndex();
+
+    @Test
+    @DisplayName("모든 단어를 두 글자 단위로 나누고, 한 글자 단어는 그대로 둔다.")
+    void tokenize() {
+        // when, then
+        assertThat(TemplateSearchIndex.tokenize("회고 템플릿, KPT 5"))
+            .containsExactly("회고", "템플", "플릿", "kp", "pt", "5");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 붙은 한국어 단어도 검색된다.")
+    void searchKoreanCompound() {
+        // given
+        index.put(1L, "스프린트회고", "", List.of());
+
+        // when
+        TemplateSearchResult result = index.search("회고", 0, 10);
+
+        // then
+        assertThat(result.getTemplateIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자로 시작하는 단어가 있는 템플릿을 찾는다.")
+    void searchSingleCharacter() {
+        // given
+        index.put(1L, "회고 템플릿", "", List.of());
+        index.put(2L, "주간 점검", "", List.of("다음 목표"));
+
+        // when
+        TemplateSearchResult result = index.search("회", 0, 10);
+
+        // then
+        assertThat(result.getTemplateIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목이 일치하는 템플릿이 설명이나 질문만 일치하는 템플릿보다 먼저 조회된다.")
+    void rankTitleFirst() {
+        // given
+        index.put(1L, "주간 점검", "회고", List.of());
+        index.put(2L, "주간 점검", "", List.of("회고 질문"));
+        index.put(3L, "회고", "", List.of());
+
+        // when
+        TemplateSearchResult result = index.search("회고", 0, 10);
+
+        // then
+        assertThat(result.getTemplateIds().get(0)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("드물게 등장하는 검색어가 일치하는 템플릿의 점수가 더 높다.")
+    void rankRareTermHigher() {
+        // given
+        index.put(1L, "회고", "", List.of());
+        index.put(2L, "회고", "", List.of());
+        index.put(3L, "회고", "", List.of());
+        index.put(4L, "칸반", "", List.of());
+
+        // when
+        TemplateSearchResult result = index.search("회고 칸반", 0, 10);
+
+        // then
+        assertThat(result.getTemplateIds().get(0)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 최근에 만든 템플릿이 먼저 조회되고, 요청한 페이지만 돌려준다.")
+    void selectPage() {
+        // given
+        for (long templateId = 1; templateId <= 5; templateId++) {
+            index.put(templateId, "회고", "", List.of());
+        }
+
+        // when
+        TemplateSearchResult result = index.search("회고", 2, 2);
+
+        // then
+        assertAll(
+            () -> assertThat(result.getTemplateIds()).containsExactly(3L, 2L),
+            () -> assertThat(result.getTotalCount()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("다시 색인하거나 삭제하면 이전 내용으로는 검색되지 않는다.")
+    void updateAndRemove() {
+        // given
+        index.put(1L, "회고", "", List.of());
+        index.put(2L, "회고", "", List.of());
+
+        // when
+        index.put(1L, "칸반", "", List.of());
+        index.remove(2L);
+
+        // then
+        assertAll(
+            () -> assertThat(index.search("회고", 0, 10).getTemplateIds()).isEmpty(),
+            () -> assertThat(index.search("칸반", 0, 10).getTemplateIds()).containsExactly(1L),
+            () -> assertThat(index.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("검색 결과보다 뒤의 페이지는 비어 있다.")
+    void searchBeyondResults() {
+        // given
+        index.put(1L, "회고", "", List.of());
+
+        // when
+        TemplateSearchResult result = index.search("회고", 10, 10);
+
+        // then
+        assertAll(
+            () -> assertThat(result.getTemplateIds()).isEmpty(),
+            () -> assertThat(result.getTotalCount()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.reviewduck.template.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TemplateTitleTrieTest {
+
+    private final TemplateTitleTrie titleTrie = new TemplateTitleTrie();
+
+    @Test
+    @DisplayName("제목의 앞부분이나 단어의 앞부분으로 시작하는 템플릿을 많이 사용된 순으로 조회한다.")
+    void suggestByUsedCount() {
+        // given
+        titleTrie.put(1L, "스프린트 회고", 3);
+        titleTrie.put(2L, "회고 템플릿", 5);
+        titleTrie.put(3L, "KPT 회고", 1);
+        titleTrie.put(4L, "칸반", 10);
+
+        // when, then
+        assertAll(
+            () -> assertThat(suggest("회")).containsExactly(2L, 1L, 3L),
+            () -> assertThat(suggest("kpt")).containsExactly(3L),
+            () -> assertThat(suggest("스프린트 회")).containsExactly(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("사용 횟수가 늘어나면 순위가 바뀐다.")
+    void increaseUsedCount() {
+        // given
+        titleTrie.put(1L, "회고 1", 3);
+        titleTrie.put(2L, "회고 2", 5);
+
+        // when
+        titleTrie.increaseUsedCount(1L, 3);
+
+        // then
+        assertThat(suggest("회고")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 조회하고, 사용 횟수가 같으면 최근에 만든 템플릿이 먼저 조회된다.")
+    void suggestLimited() {
+        // given
+        for (long templateId = 1; templateId <= 20; templateId++) {
+            titleTrie.put(templateId, "회고 " + templateId, 0);
+        }
+
+        // when, then
+        assertThat(titleTrie.suggest("회고", 3))
+            .extracting(TemplateSuggestion::getTemplateId)
+            .containsExactly(20L, 19L, 18L);
+    }
+
+    @Test
+    @DisplayName("제목을 바꾸거나 삭제하면 이전 제목으로는 조회되지 않는다.")
+    void updateAndRemove() {
+        // given
+        titleTrie.put(1L, "회고", 0);
+        titleTrie.put(2L, "회고", 0);
+
+        // when
+        titleTrie.put(1L, "칸반", 0);
+        titleTrie.remove(2L);
+
+        // then
+        assertAll(
+            () -> assertThat(suggest("회")).isEmpty(),
+            () -> assertThat(suggest("칸")).containsExactly(1L),
+            () -> assertThat(titleTrie.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("빈 검색어로는 아무것도 조회하지 않는다.")
+    void suggestBlank() {
+        // given
+        titleTrie.put(1L, "회고", 0);
+
+        // when, then
+        assertThat(titleTrie.suggest(" ", 10)).isEmpty();
+    }
+
+    private List<Long> suggest(String prefix) {
+        return titleTrie.suggest(prefix, TemplateTitleTrie.MAX_SUGGESTIONS).stream()
+            .map(TemplateSuggestion::getTemplateId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
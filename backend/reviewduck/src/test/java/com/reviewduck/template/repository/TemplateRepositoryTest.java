@@ -159,13 +159,13 @@ public class TemplateRepositoryTest {
     }
 
     @Test
-    @DisplayName("사용 횟수를 증가시킨다.")
+    @DisplayName("사용 횟수를 주어진 만큼 증가시킨다.")
     void increaseUsedCount() throws InterruptedException {
         //given
         long templateId = saveTemplate(member1, questions1).getId();
 
         // when
-        templateRepository.increaseUsedCount(templateId);
+        templateRepository.increaseUsedCount(templateId, 3);
 
         Template template = templateRepository.findAllByMember(member1).get(0);
 
@@ -173,7 +173,7 @@ public class TemplateRepositoryTest {
         em.refresh(template);
 
         // then
-        assertThat(template.getUsedCount()).isEqualTo(1);
+        assertThat(template.getUsedCount()).isEqualTo(3);
     }
 
     private Template saveTemplate(Member member, List<TemplateQuestionCreateDto> questions) throws
@@ -3,18 +3,30 @@ package com.reviewduck.template.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.common.service.ServiceTest;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewFormQuestionCreateRequest;
 import com.reviewduck.template.domain.Template;
 import com.reviewduck.template.domain.TemplateQuestion;
 import com.reviewduck.template.dto.controller.request.TemplateCreateRequest;
@@ -23,7 +35,10 @@ import com.reviewduck.template.dto.controller.request.TemplateQuestionUpdateRequ
 import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
 import com.reviewduck.template.dto.controller.response.TemplateInfoResponse;
 import com.reviewduck.template.dto.controller.response.TemplateResponse;
+import com.reviewduck.template.dto.controller.response.TemplateSuggestionResponse;
 import com.reviewduck.template.dto.controller.response.TemplateSummaryResponse;
+import com.reviewduck.template.dto.controller.response.TemplatesResponse;
+import com.reviewduck.template.vo.TemplateSortType;
 
 public class TemplateServiceTest extends ServiceTest {
 
@@ -38,6 +53,29 @@ public class TemplateServiceTest extends ServiceTest {
     @Autowired
     private TemplateService templateService;
 
+    @Autowired
+    private TemplateListCache templateListCache;
+
+    @Autowired
+    private TemplateSearchService templateSearchService;
+
+    @Autowired
+    private TemplateUsageService templateUsageService;
+
+    @Autowired
+    private TemplateLeaderboardService templateLeaderboardService;
+
+    @BeforeEach
+    void rebuildSearchIndex() {
+        templateSearchService.rebuild();
+        templateLeaderboardService.snapshot();
+    }
+
+    @AfterEach
+    void saveLeaderboard() {
+        templateLeaderboardService.snapshot();
+    }
+
     @Nested
     @DisplayName("템플릿 생성")
     class createTemplate {
@@ -136,6 +174,7 @@ public class TemplateServiceTest extends ServiceTest {
             saveTemplate(member1, "title2", "description2", questions2);
 
             templateService.createReviewFormByTemplate(memberId1, template1.getId());
+            templateUsageService.flush();
 
             // when
             int page = 0;
@@ -154,6 +193,44 @@ public class TemplateServiceTest extends ServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("이번 주에 많이 사용된 순으로 조회하고, 저장한 뒤 다시 만들어도 순위가 유지된다.")
+        void findAllOrderByWeekly() throws InterruptedException {
+            // given
+            long templateId1 = saveTemplate(member1, "title1", "description1", questions1).getInfo().getId();
+            long templateId2 = saveTemplate(member1, "title2", "description2", questions2).getInfo().getId();
+            saveTemplate(member1, "title3", "description3", questions1);
+
+            templateService.createReviewFormByTemplate(memberId1, templateId1);
+            templateService.createReviewFormByTemplate(memberId1, templateId2);
+            templateService.createReviewFormByTemplate(memberId1, templateId2);
+
+            // when
+            TemplatesResponse beforeSnapshot = templateService.findAll(0, 10, "weekly", memberId1);
+            templateLeaderboardService.snapshot();
+            TemplatesResponse afterSnapshot = templateService.findAll(0, 5, "weekly", memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(toTemplateIds(beforeSnapshot)).containsExactly(templateId2, templateId1),
+                () -> assertThat(beforeSnapshot.getNumberOfTemplates()).isEqualTo(2),
+                () -> assertThat(toTemplateIds(afterSnapshot)).containsExactly(templateId2, templateId1)
+            );
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 템플릿으로는 회고 폼을 만들 수 없다.")
+        void createReviewFormByInvalidTemplate() {
+            // given
+            ReviewFormCreateRequest request = new ReviewFormCreateRequest("title",
+                List.of(new ReviewFormQuestionCreateRequest("question1", "description1")));
+
+            // when, then
+            assertThatThrownBy(() -> templateService.createReviewFormByTemplate(memberId1, 9999L, request))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 템플릿입니다.");
+        }
+
         @Test
         @DisplayName("최신순으로 특정 페이지를 조회한다.")
         void findAllOrderByTrend() throws InterruptedException {
@@ -180,6 +257,203 @@ public class TemplateServiceTest extends ServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("템플릿 검색")
+    class search {
+
+        @Test
+        @DisplayName("제목, 설명, 질문에서 검색어와 관련도가 높은 순으로 조회한다.")
+        void searchByRelevance() throws InterruptedException {
+            // given
+            long questionMatched = saveTemplate(member1, "주간 점검", "매주 돌아보기",
+                List.of(new TemplateQuestionCreateRequest("이번 회고에서 배운 점은?", "")))
+                .getInfo().getId();
+            long titleMatched = saveTemplate(member1, "스프린트 회고 템플릿", "팀 회고", questions1).getInfo().getId();
+            saveTemplate(member1, "title", "description", questions2);
+
+            // when
+            List<Long> templateIds = templateService.search("회고", 0, 10, memberId1).getTemplates().stream()
+                .map(template -> template.getInfo().getId())
+                .collect(Collectors.toUnmodifiableList());
+
+            // then
+            assertThat(templateIds).containsExactly(titleMatched, questionMatched);
+        }
+
+        @Test
+        @DisplayName("검색 결과를 페이지 단위로 조회한다.")
+        void searchPage() throws InterruptedException {
+            // given
+            saveTemplate(member1, "회고 1", "description", questions1);
+            saveTemplate(member1, "회고 2", "description", questions1);
+            saveTemplate(member1, "회고 3", "description", questions1);
+
+            // when
+            TemplatesResponse response = templateService.search("회고", 1, 2, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(response.getNumberOfTemplates()).isEqualTo(3),
+                () -> assertThat(response.getTemplates()).hasSize(1),
+                () -> assertThat(response.getIsLastPage()).isTrue()
+            );
+        }
+
+        @Test
+        @DisplayName("삭제한 템플릿은 검색되지 않는다.")
+        void notSearchDeletedTemplate() throws InterruptedException {
+            // given
+            long templateId = saveTemplate(member1, "회고", "description", questions1).getInfo().getId();
+
+            // when
+            templateService.delete(memberId1, templateId);
+
+            // then
+            assertThat(templateService.search("회고", 0, 10, memberId1).getTemplates()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("검색어로 시작하는 제목을 많이 사용된 순으로 자동완성한다.")
+        void suggest() throws InterruptedException {
+            // given
+            long lessUsed = saveTemplate(member1, "회고 템플릿", "description", questions1).getInfo().getId();
+            long mostUsed = saveTemplate(member1, "스프린트 회고", "description", questions1).getInfo().getId();
+            saveTemplate(member1, "title", "description", questions2);
+            templateService.createReviewFormByTemplate(memberId1, mostUsed);
+
+            // when
+            List<Long> templateIds = templateService.suggest("회", 10).getSuggestions().stream()
+                .map(TemplateSuggestionResponse::getTemplateId)
+                .collect(Collectors.toUnmodifiableList());
+
+            // then
+            assertThat(templateIds).containsExactly(mostUsed, lessUsed);
+        }
+    }
+
+    @Nested
+    @DisplayName("템플릿 목록 캐시")
+    class templateListCache {
+
+        private final List<TemplateQuestionUpdateRequest> updateQuestions = List.of(
+            new TemplateQuestionUpdateRequest(null, "question", "description"));
+
+        @Test
+        @DisplayName("목록 페이지에 없는 템플릿을 수정해도 캐시된 페이지는 유지된다.")
+        void keepUnaffectedPage() throws InterruptedException {
+            // given
+            long templateId1 = saveTemplate(member1, "title1", "description1", questions1).getInfo().getId();
+            saveTemplate(member1, "title2", "description2", questions2);
+            TemplatesResponse cached = templateService.findAll(0, 1, "latest", memberId1);
+
+            // when
+            templateService.update(memberId1, templateId1,
+                new TemplateUpdateRequest("new title", "new description", updateQuestions));
+
+            // then
+            assertThat(templateService.findAll(0, 1, "latest", memberId1)).isSameAs(cached);
+        }
+
+        @Test
+        @DisplayName("목록 페이지에 있는 템플릿을 수정하면 해당 페이지를 다시 조회한다.")
+        void evictAffectedPage() throws InterruptedException {
+            // given
+            saveTemplate(member1, "title1", "description1", questions1);
+            long templateId2 = saveTemplate(member1, "title2", "description2", questions2).getInfo().getId();
+            templateService.findAll(0, 1, "latest", memberId1);
+
+            // when
+            templateService.update(memberId1, templateId2,
+                new TemplateUpdateRequest("new title", "new description", updateQuestions));
+
+            // then
+            TemplateInfoResponse firstTemplate = templateService.findAll(0, 1, "latest", memberId1)
+                .getTemplates().get(0).getInfo();
+            assertThat(firstTemplate.getTitle()).isEqualTo("new title");
+        }
+
+        @Test
+        @DisplayName("템플릿을 생성하면 검색 페이지를 다시 조회한다.")
+        void evictSearch() throws InterruptedException {
+            // given
+            saveTemplate(member1, "title1", "description1", questions1);
+            templateService.search("title", 0, 10, memberId1);
+
+            // when
+            saveTemplate(member1, "title2", "description2", questions2);
+
+            // then
+            assertThat(templateService.search("title", 0, 10, memberId1).getTemplates()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("사용 횟수는 모았다가 반영하고, 반영하면 인기순 페이지를 다시 조회한다.")
+        void evictTrendPageOnFlush() throws InterruptedException {
+            // given
+            saveTemplate(member1, "title1", "description1", questions1);
+            long templateId2 = saveTemplate(member1, "title2", "description2", questions2).getInfo().getId();
+            saveTemplate(member1, "title3", "description3", questions1);
+            TemplatesResponse cached = templateService.findAll(0, 1, "trend", memberId1);
+            TemplatesResponse latest = templateService.findAll(0, 1, "latest", memberId1);
+
+            // when
+            templateService.createReviewFormByTemplate(memberId1, templateId2);
+            templateService.createReviewFormByTemplate(memberId1, templateId2);
+            TemplatesResponse beforeFlush = templateService.findAll(0, 1, "trend", memberId1);
+            templateUsageService.flush();
+
+            // then
+            TemplateInfoResponse firstTemplate = templateService.findAll(0, 1, "trend", memberId1)
+                .getTemplates().get(0).getInfo();
+            assertAll(
+                () -> assertThat(beforeFlush).isSameAs(cached),
+                () -> assertThat(firstTemplate.getId()).isEqualTo(templateId2),
+                () -> assertThat(firstTemplate.getUsedCount()).isEqualTo(2),
+                () -> assertThat(templateService.findAll(0, 1, "latest", memberId1)).isSameAs(latest)
+            );
+        }
+
+        @Test
+        @DisplayName("같은 페이지의 동시 미스는 한 번만 조회한다.")
+        void loadOnceOnConcurrentMiss() throws InterruptedException {
+            // given
+            int threadCount = 16;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<TemplatesResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return templateListCache.getList(TemplateSortType.LATEST, 0, 10, () -> {
+                        loadCount.incrementAndGet();
+                        sleep();
+                        return TemplatesResponse.of(Page.empty(), memberId1);
+                    });
+                }));
+            }
+            start.countDown();
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+            // then
+            assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(futures).allSatisfy(future -> assertThat(future.get()).isNotNull())
+            );
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("사용자별 템플릿 조회")
     class findAllByMember {
@@ -351,6 +625,12 @@ public class TemplateServiceTest extends ServiceTest {
 
     }
 
+    private List<Long> toTemplateIds(TemplatesResponse response) {
+        return response.getTemplates().stream()
+            .map(template -> template.getInfo().getId())
+            .collect(Collectors.toUnmodifiableList());
+    }
+
     private List<TemplateQuestion> convertRequestToQuestions(List<TemplateQuestionCreateRequest> questions) {
         List<TemplateQuestion> expected = questions.stream()
             .map(questionRequest -> new TemplateQuestion(questionRequest.getValue(), questionRequest.getDescription()))
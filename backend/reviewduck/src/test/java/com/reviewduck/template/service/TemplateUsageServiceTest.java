@@ -0,0 +1,71 @@
+package com.reviewduck.template.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.template.dto.controller.request.TemplateCreateRequest;
+import com.reviewduck.template.dto.controller.request.TemplateQuestionCreateRequest;
+import com.reviewduck.template.repository.TemplateRepository;
+
+public class TemplateUsageServiceTest extends ServiceTest {
+
+    @Autowired
+    private TemplateUsageService templateUsageService;
+
+    @Autowired
+    private TemplateService templateService;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Test
+    @DisplayName("누적된 사용 횟수를 DB 에 반영하고 메모리의 횟수를 비운다.")
+    void flush() {
+        // given
+        long templateId1 = saveTemplate("title1");
+        long templateId2 = saveTemplate("title2");
+        templateUsageService.increase(templateId1);
+        templateUsageService.increase(templateId1);
+        templateUsageService.increase(templateId2);
+
+        // when
+        templateUsageService.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(templateRepository.findById(templateId1).orElseThrow().getUsedCount()).isEqualTo(2),
+            () -> assertThat(templateRepository.findById(templateId2).orElseThrow().getUsedCount()).isEqualTo(1),
+            () -> assertThat(templateUsageService.getPendingCount(templateId1)).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("반영한 뒤 더해진 사용 횟수는 다음 반영에 더해진다.")
+    void flushAgain() {
+        // given
+        long templateId = saveTemplate("title");
+        templateUsageService.increase(templateId);
+        templateUsageService.flush();
+        templateUsageService.flush();
+
+        // when
+        templateUsageService.increase(templateId);
+        templateUsageService.flush();
+
+        // then
+        assertThat(templateRepository.findById(templateId).orElseThrow().getUsedCount()).isEqualTo(2);
+    }
+
+    private long saveTemplate(String title) {
+        TemplateCreateRequest request = new TemplateCreateRequest(title, "description",
+            List.of(new TemplateQuestionCreateRequest("question", "description")));
+        return templateService.save(memberId1, request).getTemplateId();
+    }
+}
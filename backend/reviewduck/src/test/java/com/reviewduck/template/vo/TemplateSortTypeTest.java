@@ -26,6 +26,21 @@ class TemplateSortTypeTest {
             .isEqualTo("usedCount");
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"weekly:WEEK", "monthly:MONTH"}, delimiter = ':')
+    @DisplayName("기간별 인기순은 집계 기간을 반환한다.")
+    void getWindow(String param, TemplatePopularityWindow window) {
+        assertThat(TemplateSortType.from(param).getWindow())
+            .contains(window);
+    }
+
+    @Test
+    @DisplayName("전체 기간 기준 정렬은 집계 기간이 없다.")
+    void getEmptyWindow() {
+        assertThat(TemplateSortType.from("trend").getWindow())
+            .isEmpty();
+    }
+
     @Test
     @DisplayName("이상한 값을 넘겨도 기본 정렬 기준을 반환한다.")
     void wrongSortBy() {
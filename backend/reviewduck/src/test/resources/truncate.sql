@@ -28,5 +28,8 @@ alter table question_answer
 truncate table member;
 alter table member
     AUTO_INCREMENT = 1;
+truncate table template_usage_bucket;
+truncate table review_like_bucket;
+truncate table refresh_token_family;
 SET
     FOREIGN_KEY_CHECKS = 1;